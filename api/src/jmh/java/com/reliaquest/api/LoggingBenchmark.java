@@ -0,0 +1,120 @@
+package com.reliaquest.api;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.joran.JoranConfigurator;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.FileAppender;
+import ch.qos.logback.core.joran.spi.JoranException;
+import com.reliaquest.api.logging.DropCountingAsyncAppender;
+import com.reliaquest.api.logging.SamplingTurboFilter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import net.logstash.logback.encoder.LogstashEncoder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * Request-path log statements per millisecond across eight calling threads. {@code plain} is the previous setup, the
+ * {@code plain-logging} profile: Spring Boot's console pattern encoded synchronously on the caller. {@code async} is
+ * the default setup, JSON handed to the bounded queue, and {@code sampled} adds the turbo filter that keeps one in ten
+ * INFO statements. Every mode writes to a temporary file in place of the terminal.
+ *
+ * <p>The async modes never block, so events that do not fit in the queue are dropped; the counts are printed at the
+ * end of each trial and belong next to the throughput. No results are recorded in the repository yet. Run with
+ * {@code ./gradlew api:jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(8)
+public class LoggingBenchmark {
+
+    @Param({"plain", "async", "sampled"})
+    private String mode;
+
+    private LoggerContext context;
+
+    private Path logFile;
+
+    private DropCountingAsyncAppender async;
+
+    private Logger logger;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException, JoranException {
+        context = new LoggerContext();
+        logFile = Files.createTempFile("logging-benchmark", ".log");
+
+        if ("plain".equals(mode)) {
+            context.putProperty("BENCHMARK_LOG_FILE", logFile.toString());
+            JoranConfigurator configurator = new JoranConfigurator();
+            configurator.setContext(context);
+            try (InputStream config = LoggingBenchmark.class.getResourceAsStream("/logback-plain-benchmark.xml")) {
+                configurator.doConfigure(config);
+            }
+        } else {
+            LogstashEncoder encoder = new LogstashEncoder();
+            encoder.setContext(context);
+            encoder.setCustomFields("{\"app\":\"employee-api\"}");
+            encoder.start();
+
+            FileAppender<ILoggingEvent> file = new FileAppender<>();
+            file.setContext(context);
+            file.setFile(logFile.toString());
+            file.setEncoder(encoder);
+            file.start();
+
+            // same settings as logback-spring.xml
+            async = new DropCountingAsyncAppender();
+            async.setContext(context);
+            async.setQueueSize(8192);
+            async.setDiscardingThreshold(819);
+            async.setNeverBlock(true);
+            async.setIncludeCallerData(false);
+            async.addAppender(file);
+            async.start();
+
+            Logger root = context.getLogger(Logger.ROOT_LOGGER_NAME);
+            root.setLevel(ch.qos.logback.classic.Level.INFO);
+            root.addAppender(async);
+        }
+        if ("sampled".equals(mode)) {
+            SamplingTurboFilter filter = new SamplingTurboFilter();
+            filter.addLoggerName("com.reliaquest.api.service.EmployeeService");
+            filter.setRate(10);
+            filter.start();
+            context.addTurboFilter(filter);
+        }
+
+        logger = context.getLogger("com.reliaquest.api.service.EmployeeService");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        if (async != null) {
+            System.out.printf(
+                    "%n%s: %d events dropped, %d discarded%n",
+                    mode, async.getDroppedCount(), async.getDiscardedCount());
+        }
+        context.stop();
+        Files.deleteIfExists(logFile);
+    }
+
+    @Benchmark
+    public void logRequest() {
+        logger.info("Fetched employee {} in {} ms", "4a3a170b-22cd-4ac2-aad1-9bb5b34a1507", 12);
+    }
+}
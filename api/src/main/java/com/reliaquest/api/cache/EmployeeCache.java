@@ -0,0 +1,266 @@
+package com.reliaquest.api.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.reliaquest.api.dto.ApiResponse;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Per-id employee cache in two tiers. L1 is a bounded on-heap Caffeine cache (W-TinyLFU eviction with a TTL); entries
+ * it evicts for size are demoted to an optional disk-backed L2 and promoted back on their next hit. Ids the upstreams
+ * reported as missing are remembered for a short negative TTL so repeated lookups do not go upstream again.
+ *
+ * <p>The cache is filled from full-list refreshes and create responses, and entries are dropped by name on delete.
+ */
+@Component
+public class EmployeeCache implements MeterBinder {
+
+    private static final Logger logger = LoggerFactory.getLogger(EmployeeCache.class);
+
+    private final boolean enabled;
+
+    private final Cache<String, ApiResponse.Employee> l1;
+
+    private final Cache<String, Boolean> missing;
+
+    private final Cache<String, DiskEntry> l2;
+
+    private final ObjectMapper objectMapper;
+
+    private final Path directory;
+
+    private final AtomicLong fileSequence = new AtomicLong();
+
+    private final LongAdder lookups = new LongAdder();
+
+    private final LongAdder l1Hits = new LongAdder();
+
+    private final LongAdder l2Hits = new LongAdder();
+
+    private final LongAdder negativeHits = new LongAdder();
+
+    @Autowired
+    public EmployeeCache(
+            ObjectMapper objectMapper,
+            @Value("${employee.cache.enabled:true}") boolean enabled,
+            @Value("${employee.cache.max-size:10000}") long maxSize,
+            @Value("${employee.cache.ttl-seconds:60}") long ttlSeconds,
+            @Value("${employee.cache.negative-ttl-seconds:5}") long negativeTtlSeconds,
+            @Value("${employee.cache.disk.enabled:false}") boolean diskEnabled,
+            @Value("${employee.cache.disk.directory:${java.io.tmpdir}/employee-cache}") String diskDirectory,
+            @Value("${employee.cache.disk.max-entries:1000000}") long diskMaxEntries,
+            @Value("${employee.cache.disk.ttl-seconds:600}") long diskTtlSeconds) {
+        this.enabled = enabled;
+        this.objectMapper = objectMapper;
+        this.directory = enabled && diskEnabled ? prepareDirectory(Path.of(diskDirectory)) : null;
+        this.l2 = directory == null
+                ? null
+                : Caffeine.newBuilder()
+                        .maximumSize(diskMaxEntries)
+                        .expireAfterWrite(Duration.ofSeconds(diskTtlSeconds))
+                        .removalListener((String id, DiskEntry entry, RemovalCause cause) -> {
+                            if (entry != null) {
+                                deleteQuietly(entry.path());
+                            }
+                        })
+                        .recordStats()
+                        .build();
+        // Demotion runs atomically with the eviction, so it cannot land after a newer put of the same id
+        this.l1 = Caffeine.newBuilder()
+                .maximumSize(enabled ? maxSize : 0)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .evictionListener((String id, ApiResponse.Employee employee, RemovalCause cause) -> {
+                    if (cause == RemovalCause.SIZE && employee != null) {
+                        demote(id, employee);
+                    }
+                })
+                .recordStats()
+                .build();
+        this.missing = Caffeine.newBuilder()
+                .maximumSize(enabled ? maxSize : 0)
+                .expireAfterWrite(Duration.ofSeconds(negativeTtlSeconds))
+                .build();
+    }
+
+    public static EmployeeCache disabled() {
+        return new EmployeeCache(new ObjectMapper(), false, 0, 1, 1, false, "", 0, 1);
+    }
+
+    public Optional<ApiResponse.Employee> get(String id) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+        lookups.increment();
+        ApiResponse.Employee employee = l1.getIfPresent(id);
+        if (employee != null) {
+            l1Hits.increment();
+            return Optional.of(employee);
+        }
+        employee = promote(id);
+        if (employee != null) {
+            l2Hits.increment();
+        }
+        return Optional.ofNullable(employee);
+    }
+
+    // True when an upstream recently answered 404 for this id
+    public boolean isKnownMissing(String id) {
+        if (enabled && missing.getIfPresent(id) != null) {
+            negativeHits.increment();
+            return true;
+        }
+        return false;
+    }
+
+    public void put(ApiResponse.Employee employee) {
+        if (!enabled || employee == null || employee.id() == null) {
+            return;
+        }
+        missing.invalidate(employee.id());
+        l1.put(employee.id(), employee);
+        // after the L1 write, so a copy demoted by an eviction racing with this put is dropped as well
+        if (l2 != null) {
+            l2.invalidate(employee.id());
+        }
+    }
+
+    public void putAll(Collection<ApiResponse.Employee> employees) {
+        if (enabled) {
+            employees.forEach(this::put);
+        }
+    }
+
+    public void putMissing(String id) {
+        if (!enabled) {
+            return;
+        }
+        // a copy cached before the employee was deleted elsewhere must not outlive the 404
+        l1.invalidate(id);
+        if (l2 != null) {
+            l2.invalidate(id);
+        }
+        missing.put(id, Boolean.TRUE);
+    }
+
+    // Names are not keys, so this scans both tiers; deletes are rare next to lookups
+    public void invalidateByName(String name) {
+        if (!enabled || name == null) {
+            return;
+        }
+        l1.asMap().values().removeIf(employee -> name.equalsIgnoreCase(employee.employee_name()));
+        if (l2 != null) {
+            l2.asMap().values().removeIf(entry -> name.equalsIgnoreCase(entry.name()));
+        }
+    }
+
+    public void invalidateAll() {
+        l1.invalidateAll();
+        missing.invalidateAll();
+        if (l2 != null) {
+            l2.invalidateAll();
+        }
+    }
+
+    public double hitRatio() {
+        long total = lookups.sum();
+        return total == 0 ? 0 : (double) (l1Hits.sum() + l2Hits.sum()) / total;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        if (!enabled) {
+            return;
+        }
+        CaffeineCacheMetrics.monitor(registry, l1, "employee.l1");
+        if (l2 != null) {
+            CaffeineCacheMetrics.monitor(registry, l2, "employee.l2");
+        }
+        Gauge.builder("employee.cache.hit.ratio", this, EmployeeCache::hitRatio)
+                .description("Share of id lookups answered by either cache tier")
+                .register(registry);
+        FunctionCounter.builder("employee.cache.negative.hits", negativeHits, LongAdder::sum)
+                .description("Lookups answered from the negative cache of missing ids")
+                .register(registry);
+    }
+
+    private ApiResponse.Employee promote(String id) {
+        if (l2 == null) {
+            return null;
+        }
+        DiskEntry entry = l2.getIfPresent(id);
+        if (entry == null) {
+            return null;
+        }
+        try {
+            ApiResponse.Employee employee = objectMapper.readValue(entry.path().toFile(), ApiResponse.Employee.class);
+            put(employee);
+            return employee;
+        } catch (IOException e) {
+            logger.warn("Could not read cached employee {} from {}: {}", id, entry.path(), e.getMessage());
+            l2.invalidate(id);
+            return null;
+        }
+    }
+
+    // Every write goes to a new file, so deleting the file of a replaced entry never touches the current one
+    private void demote(String id, ApiResponse.Employee employee) {
+        if (l2 == null) {
+            return;
+        }
+        Path target = directory.resolve(fileSequence.incrementAndGet() + ".json");
+        Path temporary = directory.resolve(target.getFileName() + ".tmp");
+        try {
+            objectMapper.writeValue(temporary.toFile(), employee);
+            Files.move(temporary, target, StandardCopyOption.ATOMIC_MOVE);
+            l2.put(id, new DiskEntry(target, employee.employee_name()));
+        } catch (IOException e) {
+            logger.warn("Could not demote employee {} to disk: {}", id, e.getMessage());
+            deleteQuietly(temporary);
+        }
+    }
+
+    // Files left by a previous run have no index entry, so they are removed up front
+    private static Path prepareDirectory(Path directory) {
+        try {
+            Files.createDirectories(directory);
+            try (DirectoryStream<Path> stale = Files.newDirectoryStream(directory, "*.{json,tmp}")) {
+                stale.forEach(EmployeeCache::deleteQuietly);
+            }
+            return directory;
+        } catch (IOException e) {
+            logger.warn("Disk cache disabled, {} is not usable: {}", directory, e.getMessage());
+            return null;
+        }
+    }
+
+    private static void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            logger.debug("Could not delete cache file {}: {}", path, e.getMessage());
+        }
+    }
+
+    private record DiskEntry(Path path, String name) {}
+}
@@ -1,57 +1,85 @@
 package com.reliaquest.api.client;
 
+import com.reliaquest.api.cache.EmployeeCache;
 import com.reliaquest.api.dto.ApiDeleteRequestDto;
 import com.reliaquest.api.dto.ApiResponse;
+import com.reliaquest.api.dto.EmpBatchRequestDto;
 import com.reliaquest.api.dto.EmpRequestDto;
 import com.reliaquest.api.exception.ClientException;
 import com.reliaquest.api.exception.ResourceNotFoundException;
 import com.reliaquest.api.exception.ServerException;
+import java.net.URI;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.function.Predicate;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.HttpStatusCode;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
-import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
+import org.springframework.web.util.UriBuilder;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.util.retry.Retry;
-import reactor.util.retry.RetryBackoffSpec;
 
 @Component
 public class ApiClient {
 
-    private final WebClient webClient;
+    private final UpstreamRegistry upstreams;
+
+    private final EmployeeCache cache;
 
     private static final Logger logger = LoggerFactory.getLogger(ApiClient.class);
 
+    private static final int MAX_RETRIES = 5;
+
+    private static final Duration MIN_BACKOFF = Duration.ofSeconds(5);
+
     @Autowired
-    public ApiClient(WebClient.Builder webClientBuilder) {
-        this.webClient = webClientBuilder
-                .baseUrl("http://localhost:8112/api/v1/employee")
-                .filter(ExchangeFilterFunction.ofRequestProcessor(clientRequest -> {
-                    // Log the URL of the request
-                    logger.debug("Requested API URL: {}", clientRequest.url());
-                    return Mono.just(clientRequest);
-                }))
-                .build();
+    public ApiClient(UpstreamRegistry upstreams, EmployeeCache cache) {
+        this.upstreams = upstreams;
+        this.cache = cache;
     }
 
     public ApiClient(WebClient webClient) {
-        this.webClient = webClient;
+        this(UpstreamRegistry.of(webClient), EmployeeCache.disabled());
     }
 
-    // Get all employees
+    // Get all employees, merged from every available upstream shard. Every full list refreshes the id cache.
     public Mono<List<ApiResponse.Employee>> getAllEmployees() {
-        return webClient
+        return scatterGather(upstream -> fetchEmployees(upstream, uri -> uri.build()))
+                .map(shards -> shards.size() == 1
+                        ? shards.get(0)
+                        : shards.stream().flatMap(List::stream).toList())
+                .doOnNext(cache::putAll);
+    }
+
+    // Fetch employees from one upstream, with optional filter, sort and limit query parameters evaluated upstream
+    private Mono<List<ApiResponse.Employee>> fetchEmployees(Upstream upstream, Function<UriBuilder, URI> query) {
+        return upstream.webClient()
                 .get()
+                .uri(query)
                 .retrieve()
-                .onStatus(HttpStatusCode::is4xxClientError, clientResponse -> {
+                .onStatus(ApiClient::isNonRetryableClientError, clientResponse -> {
                     if (clientResponse.statusCode() == HttpStatus.NOT_FOUND) {
                         return Mono.error(
                                 new ResourceNotFoundException(HttpStatus.NOT_FOUND.value(), "Employee not found"));
@@ -68,6 +96,49 @@ public class ApiClient {
                 .retryWhen(retryBackoffSpec());
     }
 
+    // Stream all employees from every available shard as one JSON array, copying the upstream data payload without
+    // binding it to records. A shard that fails before sending any bytes is skipped like in scatterGather, unless
+    // every shard fails; once a shard has started its body a failure can only abort the whole stream.
+    public Flux<DataBuffer> getAllEmployeesRaw() {
+        return Flux.defer(() -> {
+            List<Upstream> shards = upstreams.available();
+            if (shards.size() == 1) {
+                return JsonDataExtractor.mergeDataArrays(List.of(fetchAllEmployeesRaw(shards.get(0))));
+            }
+            AtomicInteger failed = new AtomicInteger();
+            return JsonDataExtractor.mergeDataArrays(shards.stream()
+                    .map(shard -> skipIfFailedUpFront(shard, failed, shards.size()))
+                    .toList());
+        });
+    }
+
+    private Flux<DataBuffer> skipIfFailedUpFront(Upstream shard, AtomicInteger failed, int shardCount) {
+        AtomicBoolean started = new AtomicBoolean();
+        return fetchAllEmployeesRaw(shard)
+                .doOnNext(buffer -> started.set(true))
+                .onErrorResume(e -> !started.get() && UpstreamRegistry.isShardFailure(e), e -> {
+                    if (failed.incrementAndGet() == shardCount) {
+                        return Flux.error(e);
+                    }
+                    logger.warn("Skipping shard {}: {}", shard, e.getMessage());
+                    return Flux.empty();
+                });
+    }
+
+    private Flux<DataBuffer> fetchAllEmployeesRaw(Upstream upstream) {
+        return upstream.webClient()
+                .get()
+                .retrieve()
+                .onStatus(
+                        HttpStatusCode::is5xxServerError,
+                        clientResponse -> Mono.error(
+                                new ServerException(clientResponse.statusCode().value(), "Server error occurred")))
+                .bodyToFlux(DataBuffer.class)
+                .retryWhen(retryBackoffSpec())
+                .doOnComplete(upstream::markUp)
+                .doOnError(UpstreamRegistry::isFailure, upstream::markDown);
+    }
+
     // Search employees by name fragment
     public Mono<List<ApiResponse.Employee>> getEmployeesByNameSearch(String searchString) {
         return getAllEmployees().map(employees -> employees.stream()
@@ -75,9 +146,42 @@ public class ApiClient {
                 .toList());
     }
 
-    // Get a single employee by ID
+    // Get a single employee by ID, from the cache when possible. Misses go upstream and the answer, found or not,
+    // is cached.
     public Mono<ApiResponse.Employee> getEmployeeById(String id) {
-        return webClient
+        return Mono.defer(() -> {
+            Optional<ApiResponse.Employee> cached = cache.get(id);
+            if (cached.isPresent()) {
+                return Mono.just(cached.get());
+            }
+            if (cache.isKnownMissing(id)) {
+                return Mono.error(new ResourceNotFoundException(
+                        HttpStatus.NOT_FOUND.value(), "Employee with ID " + id + " not found."));
+            }
+            return getEmployeeByIdUncached(id);
+        });
+    }
+
+    // Get a single employee by ID from the upstreams even when it is cached, for callers that act on the answer, such
+    // as a delete that needs the current name. The answer refreshes the cache.
+    public Mono<ApiResponse.Employee> getEmployeeByIdUncached(String id) {
+        return Mono.defer(() -> lookupEmployeeById(id)
+                .doOnNext(cache::put)
+                .doOnError(ResourceNotFoundException.class, e -> cache.putMissing(id)));
+    }
+
+    // IDs are assigned by the upstream that created the employee, so every shard is asked in parallel and the first
+    // one that knows the ID answers.
+    private Mono<ApiResponse.Employee> lookupEmployeeById(String id) {
+        List<Upstream> shards = upstreams.available();
+        Mono<ApiResponse.Employee> lookup = shards.size() == 1
+                ? call(shards.get(0), upstream -> fetchEmployeeById(upstream, id))
+                : firstAnswer(shards, upstream -> fetchEmployeeById(upstream, id), id);
+        return notFoundOnlyIfAllAsked(lookup, shards, id);
+    }
+
+    private Mono<ApiResponse.Employee> fetchEmployeeById(Upstream upstream, String id) {
+        return upstream.webClient()
                 .get()
                 .uri("/{id}", id)
                 .retrieve()
@@ -86,7 +190,7 @@ public class ApiClient {
                 .onErrorResume(WebClientResponseException.class, e -> {
                     if (e.getStatusCode() == HttpStatus.NOT_FOUND) {
                         // Log the error or take some action if needed
-                        logger.error("Employee with ID {} not found. ", id);
+                        logger.error("Employee with ID {} not found on {}.", id, upstream);
                         return Mono.error(new ResourceNotFoundException(
                                 HttpStatus.NOT_FOUND.value(), "Employee with ID " + id + " not found."));
                     }
@@ -95,38 +199,165 @@ public class ApiClient {
                 .retryWhen(retryBackoffSpec());
     }
 
-    // Get the highest salary among all employees
+    // Get several employees by ID in request order. Cached employees are served locally and the remaining IDs are
+    // fetched in one batch request per shard. Unknown IDs are left out, and cached as missing only when every
+    // configured shard answered, including the ones left out while cooling down.
+    public Mono<List<ApiResponse.Employee>> getEmployeesByIds(List<String> ids) {
+        return Mono.defer(() -> {
+            Map<String, ApiResponse.Employee> found = new HashMap<>();
+            List<String> misses = new ArrayList<>();
+            for (String id : new LinkedHashSet<>(ids)) {
+                Optional<ApiResponse.Employee> cached = cache.get(id);
+                if (cached.isPresent()) {
+                    found.put(id, cached.get());
+                } else if (!cache.isKnownMissing(id)) {
+                    misses.add(id);
+                }
+            }
+            if (misses.isEmpty()) {
+                return Mono.just(inRequestOrder(ids, found));
+            }
+            List<Upstream> shards = upstreams.available();
+            return scatterGather(shards, upstream -> fetchEmployeesByIds(upstream, misses))
+                    .map(answers -> {
+                        answers.stream().flatMap(List::stream).forEach(employee -> {
+                            cache.put(employee);
+                            found.put(employee.id(), employee);
+                        });
+                        if (answers.size() == upstreams.all().size()) {
+                            misses.stream().filter(id -> !found.containsKey(id)).forEach(cache::putMissing);
+                        }
+                        return inRequestOrder(ids, found);
+                    });
+        });
+    }
+
+    private Mono<List<ApiResponse.Employee>> fetchEmployeesByIds(Upstream upstream, List<String> ids) {
+        return upstream.webClient()
+                .post()
+                .uri("/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new EmpBatchRequestDto(ids))
+                .retrieve()
+                .onStatus(
+                        HttpStatusCode::is5xxServerError,
+                        clientResponse -> Mono.error(
+                                new ServerException(clientResponse.statusCode().value(), "Server error occurred")))
+                .bodyToMono(ApiResponse.EmployeeListResponse.class)
+                .map(ApiResponse.EmployeeListResponse::data)
+                .retryWhen(retryBackoffSpec());
+    }
+
+    private static List<ApiResponse.Employee> inRequestOrder(
+            List<String> ids, Map<String, ApiResponse.Employee> employees) {
+        return ids.stream().distinct().map(employees::get).filter(Objects::nonNull).toList();
+    }
+
+    // Get the data payload of a single employee as raw JSON
+    public Mono<DataBuffer> getEmployeeByIdRaw(String id) {
+        List<Upstream> shards = upstreams.available();
+        Mono<DataBuffer> envelope = shards.size() == 1
+                ? call(shards.get(0), upstream -> fetchEmployeeByIdRaw(upstream, id))
+                : firstAnswer(shards, upstream -> fetchEmployeeByIdRaw(upstream, id), id)
+                        .doOnDiscard(DataBuffer.class, DataBufferUtils::release);
+        return DataBufferUtils.join(JsonDataExtractor.extractData(
+                notFoundOnlyIfAllAsked(envelope, shards, id).flux()));
+    }
+
+    private Mono<DataBuffer> fetchEmployeeByIdRaw(Upstream upstream, String id) {
+        return upstream.webClient()
+                .get()
+                .uri("/{id}", id)
+                .retrieve()
+                .onStatus(
+                        status -> status == HttpStatus.NOT_FOUND,
+                        clientResponse -> Mono.error(new ResourceNotFoundException(
+                                HttpStatus.NOT_FOUND.value(), "Employee with ID " + id + " not found.")))
+                .bodyToMono(DataBuffer.class)
+                .retryWhen(retryBackoffSpec());
+    }
+
+    // Get the highest salary among all employees from the precomputed aggregates
     public Mono<Integer> getHighestSalaryOfEmployees() {
-        return getAllEmployees().map(employees -> employees.stream()
-                .map(ApiResponse.Employee::employee_salary)
-                .max(Integer::compare)
+        return getEmployeeStats().map(stats -> Optional.ofNullable(stats.maxSalary())
                 .orElseThrow(() -> new RuntimeException("No employees found")));
     }
 
-    // Get the top 10 highest earning employees
-    public Mono<List<String>> getTop10HighestEarningEmployeeNames() {
-        return getAllEmployees().map(employees -> employees.stream()
-                .sorted((e1, e2) -> Integer.compare(e2.employee_salary(), e1.employee_salary()))
-                .limit(10)
-                .map(ApiResponse.Employee::employee_name)
-                .toList());
+    // Get aggregate statistics, merged from every available upstream shard
+    public Mono<ApiResponse.EmployeeStats> getEmployeeStats() {
+        return scatterGather(this::fetchEmployeeStats).map(EmployeeStatsMerger::merge);
     }
 
-    // Create a new employee
-    public Mono<ApiResponse.Employee> createEmployee(EmpRequestDto employee) {
-        return webClient
-                .post()
-                .contentType(MediaType.APPLICATION_JSON)
-                .body(Mono.just(employee), EmpRequestDto.class)
+    private Mono<ApiResponse.EmployeeStats> fetchEmployeeStats(Upstream upstream) {
+        return upstream.webClient()
+                .get()
+                .uri("/stats")
                 .retrieve()
-                .bodyToMono(ApiResponse.EmployeeResponse.class)
-                .map(ApiResponse.EmployeeResponse::data)
+                .onStatus(
+                        HttpStatusCode::is5xxServerError,
+                        clientResponse -> Mono.error(
+                                new ServerException(clientResponse.statusCode().value(), "Server error occurred")))
+                .bodyToMono(ApiResponse.EmployeeStatsResponse.class)
+                .map(ApiResponse.EmployeeStatsResponse::data)
                 .retryWhen(retryBackoffSpec());
     }
 
-    // Delete an employee by ID
+    // Get the top 10 highest earning employees. Each shard sorts and limits on its side, so at most ten rows per
+    // shard cross the network and only those are merged here; ties keep shard order.
+    public Mono<List<String>> getTop10HighestEarningEmployeeNames() {
+        return scatterGather(upstream -> fetchEmployees(
+                        upstream,
+                        uri -> uri.queryParam("sort", "salary,desc")
+                                .queryParam("limit", 10)
+                                .build()))
+                .map(shards -> shards.stream()
+                        .flatMap(List::stream)
+                        .sorted(Comparator.comparing(
+                                ApiResponse.Employee::employee_salary, Comparator.nullsLast(Comparator.reverseOrder())))
+                        .limit(10)
+                        .map(ApiResponse.Employee::employee_name)
+                        .toList());
+    }
+
+    // Create a new employee on the shard owning its name, failing over only when the owner could not be reached
+    public Mono<ApiResponse.Employee> createEmployee(EmpRequestDto employee) {
+        return failover(
+                upstreams.route(employee.name()),
+                UpstreamRegistry::isUnreachable,
+                upstream -> upstream.webClient()
+                        .post()
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .body(Mono.just(employee), EmpRequestDto.class)
+                        .retrieve()
+                        .bodyToMono(ApiResponse.EmployeeResponse.class)
+                        .map(ApiResponse.EmployeeResponse::data)
+                        .retryWhen(retryBackoffSpec()))
+                .doOnNext(cache::put);
+    }
+
+    // Delete an employee by name. Seeded employees are not placed by name, so the shards are tried in ring order
+    // starting at the owner of the name until one of them reports the delete.
     public Mono<ApiResponse.DeleteRecordResponse> deleteEmployeeByName(ApiDeleteRequestDto name) {
-        return webClient
+        return deleteFromShards(name).doOnNext(response -> cache.invalidateByName(name.name()));
+    }
+
+    private Mono<ApiResponse.DeleteRecordResponse> deleteFromShards(ApiDeleteRequestDto name) {
+        List<Upstream> shards = upstreams.route(name.name());
+        if (shards.size() == 1) {
+            return call(shards.get(0), upstream -> deleteEmployeeByName(upstream, name));
+        }
+        return Flux.fromIterable(shards)
+                .concatMap(shard -> call(shard, upstream -> deleteEmployeeByName(upstream, name))
+                        .onErrorResume(UpstreamRegistry::isFailure, e -> Mono.empty()))
+                .takeUntil(response -> Boolean.parseBoolean(response.data()))
+                .takeLast(1)
+                .next()
+                .switchIfEmpty(Mono.error(
+                        new ServerException(HttpStatus.SERVICE_UNAVAILABLE.value(), "No upstream available")));
+    }
+
+    private Mono<ApiResponse.DeleteRecordResponse> deleteEmployeeByName(Upstream upstream, ApiDeleteRequestDto name) {
+        return upstream.webClient()
                 .method(HttpMethod.DELETE)
                 .contentType(MediaType.APPLICATION_JSON)
                 .body(Mono.just(name), ApiDeleteRequestDto.class)
@@ -134,15 +365,142 @@ public class ApiClient {
                 .bodyToMono(ApiResponse.DeleteRecordResponse.class);
     }
 
-    // Retry spec in case of rate limit response 429
-    private RetryBackoffSpec retryBackoffSpec() {
-        return Retry.backoff(5, Duration.ofSeconds(5)).filter(throwable -> {
-            // Retry only for 403 responses
-            if (throwable instanceof WebClientResponseException ex) {
-                logger.error("API Response Code 429: Retrying... ");
-                return ex.getStatusCode() == HttpStatus.TOO_MANY_REQUESTS;
-            }
-            return false;
+    // Query every available shard in parallel and collect one result per shard that answered. Shards that are down or
+    // still rate limited after their retries are skipped as long as at least one of them answers; otherwise the first
+    // failure is propagated.
+    private <T> Mono<List<T>> scatterGather(Function<Upstream, Mono<T>> request) {
+        return scatterGather(upstreams.available(), request);
+    }
+
+    private <T> Mono<List<T>> scatterGather(List<Upstream> shards, Function<Upstream, Mono<T>> request) {
+        if (shards.size() == 1) {
+            return call(shards.get(0), request).map(List::of);
+        }
+        return Flux.fromIterable(shards)
+                .flatMap(shard -> call(shard, request)
+                        .map(ShardResult::success)
+                        .onErrorResume(
+                                UpstreamRegistry::isShardFailure, e -> Mono.just(ShardResult.<T>failure(shard, e))))
+                .collectList()
+                .flatMap(results -> {
+                    List<T> answers = new ArrayList<>(results.size());
+                    Throwable failure = null;
+                    for (ShardResult<T> result : results) {
+                        if (result.error() == null) {
+                            answers.add(result.value());
+                        } else {
+                            logger.warn("Skipping shard {}: {}", result.shard(), result.error().getMessage());
+                            failure = failure == null ? result.error() : failure;
+                        }
+                    }
+                    return answers.isEmpty() && failure != null ? Mono.error(failure) : Mono.just(answers);
+                });
+    }
+
+    // Ask every shard in parallel for one employee and take the first answer. Shards that answer 404 or fail are
+    // skipped; when no shard has the employee, a failure is propagated in preference to not-found, since the employee
+    // may live on the shard that failed and must not be cached as missing.
+    private <T> Mono<T> firstAnswer(List<Upstream> shards, Function<Upstream, Mono<T>> request, String id) {
+        return Mono.defer(() -> {
+            AtomicReference<Throwable> failure = new AtomicReference<>();
+            return Flux.fromIterable(shards)
+                    .flatMap(shard -> call(shard, request)
+                            .onErrorResume(ResourceNotFoundException.class, e -> Mono.empty())
+                            .onErrorResume(UpstreamRegistry::isShardFailure, e -> {
+                                logger.warn("Skipping shard {}: {}", shard, e.getMessage());
+                                failure.compareAndSet(null, e);
+                                return Mono.empty();
+                            }))
+                    .next()
+                    .switchIfEmpty(Mono.defer(() -> Mono.error(
+                            failure.get() != null
+                                    ? failure.get()
+                                    : new ResourceNotFoundException(
+                                            HttpStatus.NOT_FOUND.value(), "Employee with ID " + id + " not found."))));
+        });
+    }
+
+    // Shards cooling down after a failure are not asked, and one of them may hold the employee. Not-found therefore
+    // only stands when every configured shard was asked; otherwise it becomes a 503 that is not cached as missing.
+    private <T> Mono<T> notFoundOnlyIfAllAsked(Mono<T> lookup, List<Upstream> shards, String id) {
+        if (shards.size() == upstreams.all().size()) {
+            return lookup;
+        }
+        return lookup.onErrorMap(ResourceNotFoundException.class, e -> new ServerException(
+                HttpStatus.SERVICE_UNAVAILABLE.value(),
+                "Employee with ID " + id + " not found, but some upstreams could not be asked."));
+    }
+
+    // Try the candidates in order, moving to the next one only when the error matches the failover predicate
+    private <T> Mono<T> failover(
+            List<Upstream> candidates, Predicate<Throwable> canFailover, Function<Upstream, Mono<T>> request) {
+        return failover(candidates, 0, canFailover, request);
+    }
+
+    private <T> Mono<T> failover(
+            List<Upstream> candidates,
+            int index,
+            Predicate<Throwable> canFailover,
+            Function<Upstream, Mono<T>> request) {
+        Upstream upstream = candidates.get(index);
+        Mono<T> attempt = call(upstream, request);
+        if (index + 1 >= candidates.size()) {
+            return attempt;
+        }
+        return attempt.onErrorResume(canFailover, e -> {
+            logger.warn("Upstream {} failed, failing over to {}.", upstream, candidates.get(index + 1));
+            return failover(candidates, index + 1, canFailover, request);
         });
     }
+
+    // Run a request against an upstream and record the outcome in its health state
+    private <T> Mono<T> call(Upstream upstream, Function<Upstream, Mono<T>> request) {
+        return request.apply(upstream)
+                .doOnSuccess(ignored -> upstream.markUp())
+                .doOnError(UpstreamRegistry::isFailure, upstream::markDown);
+    }
+
+    // 429 is left to the retry spec, every other client error is final
+    private static boolean isNonRetryableClientError(HttpStatusCode status) {
+        return status.is4xxClientError() && status.value() != HttpStatus.TOO_MANY_REQUESTS.value();
+    }
+
+    // Retry spec in case of rate limit response 429. The upstream's Retry-After is waited out exactly; without one the
+    // delay grows exponentially from the minimum backoff.
+    private Retry retryBackoffSpec() {
+        return Retry.from(signals -> signals.concatMap(signal -> {
+            if (!(signal.failure() instanceof WebClientResponseException ex)
+                    || ex.getStatusCode().value() != HttpStatus.TOO_MANY_REQUESTS.value()
+                    || signal.totalRetries() >= MAX_RETRIES) {
+                return Mono.<Long>error(signal.failure());
+            }
+            Duration delay = retryAfter(ex).orElseGet(() -> MIN_BACKOFF.multipliedBy(1L << signal.totalRetries()));
+            logger.warn("API Response Code 429: Retrying in {} ms...", delay.toMillis());
+            return Mono.delay(delay);
+        }));
+    }
+
+    private static Optional<Duration> retryAfter(WebClientResponseException ex) {
+        String value = ex.getHeaders().getFirst(HttpHeaders.RETRY_AFTER);
+        if (value == null) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(Duration.ofSeconds(Math.max(0, Long.parseLong(value.trim()))));
+        } catch (NumberFormatException e) {
+            // HTTP-date form is not used by the mock server
+            return Optional.empty();
+        }
+    }
+
+    private record ShardResult<T>(Upstream shard, T value, Throwable error) {
+
+        static <T> ShardResult<T> success(T value) {
+            return new ShardResult<>(null, value, null);
+        }
+
+        static <T> ShardResult<T> failure(Upstream shard, Throwable error) {
+            return new ShardResult<>(shard, null, error);
+        }
+    }
 }
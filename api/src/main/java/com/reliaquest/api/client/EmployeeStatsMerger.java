@@ -0,0 +1,95 @@
+package com.reliaquest.api.client;
+
+import com.reliaquest.api.dto.ApiResponse;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+/**
+ * Combines the aggregates reported by each shard. Sums and counters add up exactly; percentiles are recomputed from
+ * the merged salary histogram. The percentiles a shard reports are ignored, even with a single shard, so this class is
+ * the only definition the API serves.
+ */
+public final class EmployeeStatsMerger {
+
+    private static final int[] PERCENTILES = {50, 75, 90, 95, 99};
+
+    private EmployeeStatsMerger() {}
+
+    public static ApiResponse.EmployeeStats merge(List<ApiResponse.EmployeeStats> shards) {
+        long count = 0;
+        long salaried = 0;
+        double salarySum = 0;
+        double ageSum = 0;
+        Integer minSalary = null;
+        Integer maxSalary = null;
+        int bucketWidth = 0;
+        SortedMap<Integer, Long> histogram = new TreeMap<>();
+        Map<String, Long> titles = new HashMap<>();
+        for (ApiResponse.EmployeeStats shard : shards) {
+            long shardSalaried = sum(shard.salaryHistogram());
+            count += shard.count();
+            salaried += shardSalaried;
+            salarySum += shard.averageSalary() * shardSalaried;
+            ageSum += shard.averageAge() * shard.count();
+            minSalary = min(minSalary, shard.minSalary());
+            maxSalary = max(maxSalary, shard.maxSalary());
+            bucketWidth = Math.max(bucketWidth, shard.salaryBucketWidth());
+            if (shard.salaryHistogram() != null) {
+                shard.salaryHistogram().forEach((bucket, headcount) -> histogram.merge(bucket, headcount, Long::sum));
+            }
+            if (shard.headcountByTitle() != null) {
+                shard.headcountByTitle().forEach((title, headcount) -> titles.merge(title, headcount, Long::sum));
+            }
+        }
+        return new ApiResponse.EmployeeStats(
+                count,
+                salaried == 0 ? 0 : salarySum / salaried,
+                count == 0 ? 0 : ageSum / count,
+                minSalary,
+                maxSalary,
+                bucketWidth,
+                histogram,
+                percentiles(histogram, salaried, bucketWidth, minSalary, maxSalary),
+                titles);
+    }
+
+    private static Map<String, Integer> percentiles(
+            SortedMap<Integer, Long> histogram, long salaried, int bucketWidth, Integer minSalary, Integer maxSalary) {
+        Map<String, Integer> result = new LinkedHashMap<>();
+        if (salaried == 0 || minSalary == null || maxSalary == null) {
+            return result;
+        }
+        for (int percentile : PERCENTILES) {
+            long rank = Math.max(1, (long) Math.ceil(percentile / 100.0 * salaried));
+            long seen = 0;
+            for (Map.Entry<Integer, Long> bucket : histogram.entrySet()) {
+                if (seen + bucket.getValue() >= rank) {
+                    double fraction = (double) (rank - seen) / bucket.getValue();
+                    int estimate = bucket.getKey() + (int) Math.round(fraction * bucketWidth);
+                    result.put("p" + percentile, Math.max(minSalary, Math.min(maxSalary, estimate)));
+                    break;
+                }
+                seen += bucket.getValue();
+            }
+        }
+        return result;
+    }
+
+    private static long sum(Map<Integer, Long> histogram) {
+        return histogram == null
+                ? 0
+                : histogram.values().stream().mapToLong(Long::longValue).sum();
+    }
+
+    private static Integer min(Integer current, Integer candidate) {
+        return current == null ? candidate : candidate == null ? current : Math.min(current, candidate);
+    }
+
+    private static Integer max(Integer current, Integer candidate) {
+        return current == null ? candidate : candidate == null ? current : Math.max(current, candidate);
+    }
+}
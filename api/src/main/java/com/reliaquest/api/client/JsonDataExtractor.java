@@ -0,0 +1,211 @@
+package com.reliaquest.api.client;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteBufferFeeder;
+import com.fasterxml.jackson.core.util.ByteArrayBuilder;
+import java.io.IOException;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.springframework.core.codec.DecodingException;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Pulls the {@code data} field out of upstream {@code {"data": ..., "status": ...}} envelopes with a non-blocking
+ * streaming parser. Tokens are copied straight to the output as the upstream bytes arrive, so the payload is never
+ * bound to {@code ApiResponse} records or held in memory as a whole.
+ */
+public final class JsonDataExtractor {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private static final String DATA_FIELD = "data";
+
+    private JsonDataExtractor() {}
+
+    /**
+     * Streams the {@code data} value of a single envelope.
+     */
+    public static Flux<DataBuffer> extractData(Flux<DataBuffer> body) {
+        return extract(List.of(body), false);
+    }
+
+    /**
+     * Streams the elements of the {@code data} arrays of several envelopes as one JSON array. The bodies are
+     * subscribed to eagerly and emitted in order, so shards download in parallel while the output stays sequential.
+     */
+    public static Flux<DataBuffer> mergeDataArrays(List<Flux<DataBuffer>> bodies) {
+        return extract(bodies, true);
+    }
+
+    private static Flux<DataBuffer> extract(List<Flux<DataBuffer>> bodies, boolean mergeArrays) {
+        List<Flux<Chunk>> sources = IntStream.range(0, bodies.size())
+                .mapToObj(source -> bodies.get(source)
+                        .map(buffer -> new Chunk(source, buffer))
+                        .concatWith(Mono.just(new Chunk(source, null))))
+                .toList();
+        return Flux.using(
+                () -> new Extraction(DefaultDataBufferFactory.sharedInstance, mergeArrays),
+                extraction -> Flux.mergeSequential(sources)
+                        .concatMap(chunk -> Mono.fromCallable(() -> extraction.process(chunk)))
+                        .concatWith(Mono.fromCallable(extraction::finish))
+                        .onErrorMap(IOException.class, e -> new DecodingException("Malformed upstream response", e))
+                        .doOnDiscard(Chunk.class, Chunk::release),
+                Extraction::close);
+    }
+
+    private record Chunk(int source, DataBuffer buffer) {
+
+        boolean isEndOfSource() {
+            return buffer == null;
+        }
+
+        void release() {
+            if (buffer != null) {
+                DataBufferUtils.release(buffer);
+            }
+        }
+    }
+
+    private static final class Extraction {
+
+        private final DataBufferFactory bufferFactory;
+        private final boolean mergeArrays;
+        private final ByteArrayBuilder output = new ByteArrayBuilder();
+        private final JsonGenerator generator;
+
+        private JsonParser parser;
+        private int depth;
+        private int dataDepth = -1;
+        private boolean dataNext;
+        private boolean dataFound;
+
+        Extraction(DataBufferFactory bufferFactory, boolean mergeArrays) throws IOException {
+            this.bufferFactory = bufferFactory;
+            this.mergeArrays = mergeArrays;
+            this.generator = JSON_FACTORY.createGenerator(output);
+            if (mergeArrays) {
+                generator.writeStartArray();
+            }
+        }
+
+        DataBuffer process(Chunk chunk) throws IOException {
+            if (parser == null) {
+                parser = JSON_FACTORY.createNonBlockingByteBufferParser();
+                depth = 0;
+                dataDepth = -1;
+                dataNext = false;
+            }
+            ByteBufferFeeder feeder = (ByteBufferFeeder) parser.getNonBlockingInputFeeder();
+            if (chunk.isEndOfSource()) {
+                feeder.endOfInput();
+                drain();
+                parser.close();
+                parser = null;
+            } else {
+                try (DataBuffer.ByteBufferIterator iterator = chunk.buffer().readableByteBuffers()) {
+                    while (iterator.hasNext()) {
+                        feeder.feedInput(iterator.next());
+                        drain();
+                    }
+                } finally {
+                    chunk.release();
+                }
+            }
+            return flush();
+        }
+
+        DataBuffer finish() throws IOException {
+            if (mergeArrays) {
+                generator.writeEndArray();
+            } else if (!dataFound) {
+                generator.writeNull();
+            }
+            DataBuffer last = flush();
+            generator.close();
+            return last;
+        }
+
+        void close() {
+            try {
+                generator.close();
+                if (parser != null) {
+                    parser.close();
+                }
+            } catch (IOException ignored) {
+                // nothing left to release
+            }
+        }
+
+        private void drain() throws IOException {
+            JsonToken token;
+            while ((token = parser.nextToken()) != null && token != JsonToken.NOT_AVAILABLE) {
+                if (dataDepth >= 0) {
+                    copyData(token);
+                } else if (dataNext) {
+                    startData(token);
+                } else if (token == JsonToken.FIELD_NAME && depth == 1 && DATA_FIELD.equals(parser.currentName())) {
+                    dataNext = true;
+                } else if (token.isStructStart()) {
+                    depth++;
+                } else if (token.isStructEnd()) {
+                    depth--;
+                }
+            }
+        }
+
+        private void startData(JsonToken token) throws IOException {
+            dataNext = false;
+            dataFound = true;
+            if (mergeArrays) {
+                if (token == JsonToken.VALUE_NULL) {
+                    return;
+                }
+                if (token != JsonToken.START_ARRAY) {
+                    throw new IOException("Expected an array in the data field but found " + token);
+                }
+            } else {
+                generator.copyCurrentEvent(parser);
+            }
+            if (token.isStructStart()) {
+                depth++;
+                dataDepth = depth;
+            }
+        }
+
+        private void copyData(JsonToken token) throws IOException {
+            if (token.isStructEnd() && depth == dataDepth) {
+                // closing bracket of the data value itself; merged arrays share the outer bracket
+                if (!mergeArrays) {
+                    generator.copyCurrentEvent(parser);
+                }
+                depth--;
+                dataDepth = -1;
+                return;
+            }
+            generator.copyCurrentEvent(parser);
+            if (token.isStructStart()) {
+                depth++;
+            } else if (token.isStructEnd()) {
+                depth--;
+            }
+        }
+
+        private DataBuffer flush() throws IOException {
+            generator.flush();
+            if (output.size() == 0) {
+                return null;
+            }
+            DataBuffer buffer = bufferFactory.wrap(output.toByteArray());
+            output.reset();
+            return buffer;
+        }
+    }
+}
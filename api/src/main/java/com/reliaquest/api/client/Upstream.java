@@ -0,0 +1,60 @@
+package com.reliaquest.api.client;
+
+import java.time.Duration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.reactive.function.client.WebClient;
+
+/**
+ * A single mock server instance owning a shard of the employee data. Health is tracked passively: a failed call marks
+ * the upstream down for a cool-down period, after which it is tried again.
+ */
+public class Upstream {
+
+    private static final Logger logger = LoggerFactory.getLogger(Upstream.class);
+
+    private final String baseUrl;
+    private final WebClient webClient;
+    private final long cooldownNanos;
+
+    private volatile long downUntilNanos;
+    private volatile boolean down;
+
+    public Upstream(String baseUrl, WebClient webClient, Duration cooldown) {
+        this.baseUrl = baseUrl;
+        this.webClient = webClient;
+        this.cooldownNanos = cooldown.toNanos();
+    }
+
+    public String baseUrl() {
+        return baseUrl;
+    }
+
+    public WebClient webClient() {
+        return webClient;
+    }
+
+    public boolean isAvailable() {
+        return !down || System.nanoTime() - downUntilNanos >= 0;
+    }
+
+    public void markDown(Throwable cause) {
+        downUntilNanos = System.nanoTime() + cooldownNanos;
+        if (!down) {
+            down = true;
+            logger.warn("Upstream {} marked down: {}", baseUrl, cause.getMessage());
+        }
+    }
+
+    public void markUp() {
+        if (down) {
+            down = false;
+            logger.info("Upstream {} is back up.", baseUrl);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return baseUrl;
+    }
+}
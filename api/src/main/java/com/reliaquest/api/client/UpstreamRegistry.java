@@ -0,0 +1,179 @@
+package com.reliaquest.api.client;
+
+import com.reliaquest.api.exception.ClientException;
+import com.reliaquest.api.exception.ResourceNotFoundException;
+import com.reliaquest.api.exception.ServerException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+
+/**
+ * Registry of mock server upstreams, each owning a shard of the employees. Keys are placed on a consistent hash ring
+ * with virtual nodes so adding or removing an upstream only moves the keys of its neighbours.
+ */
+@Component
+public class UpstreamRegistry {
+
+    static final String EMPLOYEE_PATH = "api/v1/employee";
+
+    private static final Logger logger = LoggerFactory.getLogger(UpstreamRegistry.class);
+
+    private final List<Upstream> upstreams;
+
+    private final NavigableMap<Long, Upstream> ring = new TreeMap<>();
+
+    @Autowired
+    public UpstreamRegistry(
+            WebClient.Builder webClientBuilder,
+            @Value("${mockserver.upstreams:${mockserver.base.url:http://localhost:8112/}}") List<String> baseUrls,
+            @Value("${mockserver.virtual-nodes:100}") int virtualNodes,
+            @Value("${mockserver.failover.cooldown-seconds:30}") long cooldownSeconds) {
+        this(
+                baseUrls.stream()
+                        .map(String::trim)
+                        .filter(baseUrl -> !baseUrl.isEmpty())
+                        .map(baseUrl -> new Upstream(
+                                baseUrl,
+                                webClientBuilder
+                                        .clone()
+                                        .baseUrl(employeeUrl(baseUrl))
+                                        .filter(ExchangeFilterFunction.ofRequestProcessor(clientRequest -> {
+                                            // Log the URL of the request
+                                            logger.debug("Requested API URL: {}", clientRequest.url());
+                                            return Mono.just(clientRequest);
+                                        }))
+                                        .build(),
+                                Duration.ofSeconds(cooldownSeconds)))
+                        .toList(),
+                virtualNodes);
+        logger.info("Configured upstreams: {}", upstreams);
+    }
+
+    UpstreamRegistry(List<Upstream> upstreams, int virtualNodes) {
+        if (upstreams.isEmpty()) {
+            throw new IllegalArgumentException("At least one upstream must be configured");
+        }
+        this.upstreams = List.copyOf(upstreams);
+        for (Upstream upstream : this.upstreams) {
+            for (int node = 0; node < virtualNodes; node++) {
+                ring.put(hash(upstream.baseUrl() + "#" + node), upstream);
+            }
+        }
+    }
+
+    public static UpstreamRegistry of(WebClient webClient) {
+        return new UpstreamRegistry(List.of(new Upstream("default", webClient, Duration.ofSeconds(30))), 1);
+    }
+
+    public List<Upstream> all() {
+        return upstreams;
+    }
+
+    /**
+     * Upstreams currently considered healthy. When every upstream is marked down all of them are returned, so a full
+     * outage still gets retried instead of failing fast until the cool-down expires.
+     */
+    public List<Upstream> available() {
+        List<Upstream> available = upstreams.stream().filter(Upstream::isAvailable).toList();
+        return available.isEmpty() ? upstreams : available;
+    }
+
+    /**
+     * Upstreams in ring order starting at the owner of the given key. Healthy upstreams come first so the head of the
+     * list is the failover target while the owner is down.
+     */
+    public List<Upstream> route(String key) {
+        Set<Upstream> ordered = new LinkedHashSet<>();
+        collect(ring.tailMap(hash(key), true).values(), ordered);
+        collect(ring.headMap(hash(key), false).values(), ordered);
+        List<Upstream> healthy = new ArrayList<>(ordered.size());
+        List<Upstream> unhealthy = new ArrayList<>();
+        for (Upstream upstream : ordered) {
+            (upstream.isAvailable() ? healthy : unhealthy).add(upstream);
+        }
+        healthy.addAll(unhealthy);
+        return healthy;
+    }
+
+    /**
+     * Owner of the given key on the ring, regardless of health.
+     */
+    public Upstream owner(String key) {
+        Map.Entry<Long, Upstream> entry = ring.ceilingEntry(hash(key));
+        return entry != null ? entry.getValue() : ring.firstEntry().getValue();
+    }
+
+    /**
+     * Whether the error means the upstream itself is unhealthy (unreachable or answering with 5xx), as opposed to a
+     * well-formed client error such as 404 or 429.
+     */
+    public static boolean isFailure(Throwable throwable) {
+        if (throwable instanceof WebClientResponseException ex) {
+            return ex.getStatusCode().is5xxServerError();
+        }
+        return throwable instanceof ServerException || isUnreachable(throwable);
+    }
+
+    /**
+     * Whether a shard should be left out of a read that is merged over every shard: any {@link #isFailure failure}, and
+     * also client errors such as a 429 that outlasted its retries. A 404 is an answer, not a failure. Only
+     * {@link #isFailure} marks the upstream down, since a rate-limited upstream is still healthy.
+     */
+    public static boolean isShardFailure(Throwable throwable) {
+        if (throwable instanceof ResourceNotFoundException) {
+            return false;
+        }
+        return isFailure(throwable)
+                || throwable instanceof ClientException
+                || throwable instanceof WebClientResponseException;
+    }
+
+    /**
+     * Whether the request never reached the upstream, which makes it safe to fail over even for non-idempotent writes.
+     */
+    public static boolean isUnreachable(Throwable throwable) {
+        return throwable instanceof WebClientRequestException;
+    }
+
+    static String employeeUrl(String baseUrl) {
+        return baseUrl.endsWith("/") ? baseUrl + EMPLOYEE_PATH : baseUrl + "/" + EMPLOYEE_PATH;
+    }
+
+    static long hash(String key) {
+        try {
+            byte[] digest = MessageDigest.getInstance("MD5").digest(key.getBytes(StandardCharsets.UTF_8));
+            return ByteBuffer.wrap(digest).getLong();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("MD5 is not available", e);
+        }
+    }
+
+    private void collect(Collection<Upstream> nodes, Set<Upstream> ordered) {
+        for (Upstream upstream : nodes) {
+            if (ordered.size() == upstreams.size()) {
+                return;
+            }
+            ordered.add(upstream);
+        }
+    }
+}
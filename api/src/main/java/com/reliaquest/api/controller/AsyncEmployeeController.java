@@ -0,0 +1,48 @@
+package com.reliaquest.api.controller;
+
+import com.reliaquest.api.dto.EmpRequestDto;
+import com.reliaquest.api.dto.EmployeeCreateStatus;
+import com.reliaquest.api.service.EmployeeCreatePipeline;
+import jakarta.validation.Valid;
+import java.net.URI;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("api/v1/employee/async")
+@ConditionalOnProperty(name = "employee.async-create.enabled", havingValue = "true")
+public class AsyncEmployeeController {
+
+    private static final Logger logger = LoggerFactory.getLogger(AsyncEmployeeController.class);
+
+    @Autowired
+    EmployeeCreatePipeline employeeCreatePipeline;
+
+    @PostMapping()
+    public ResponseEntity<EmployeeCreateStatus> createEmployee(@RequestBody @Valid EmpRequestDto employeeInput) {
+        logger.info("POST async new employee {}", employeeInput.name());
+        EmployeeCreateStatus status = employeeCreatePipeline.submit(employeeInput);
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/v1/employee/async/" + status.trackingId()))
+                .body(status);
+    }
+
+    @GetMapping("/{trackingId}")
+    public ResponseEntity<EmployeeCreateStatus> getCreateStatus(@PathVariable String trackingId) {
+        logger.info("GET async create status for tracking id {}", trackingId);
+        return employeeCreatePipeline
+                .getStatus(trackingId)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.NOT_FOUND).build());
+    }
+}
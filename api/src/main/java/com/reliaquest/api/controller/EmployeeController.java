@@ -1,6 +1,7 @@
 package com.reliaquest.api.controller;
 
 import com.reliaquest.api.dto.ApiResponse;
+import com.reliaquest.api.dto.EmpBatchRequestDto;
 import com.reliaquest.api.dto.EmpRequestDto;
 import com.reliaquest.api.service.EmployeeService;
 import jakarta.validation.Valid;
@@ -10,7 +11,9 @@ import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
@@ -51,6 +54,16 @@ public class EmployeeController implements IEmployeeController<ApiResponse.Emplo
                 : ResponseEntity.status(HttpStatus.NOT_FOUND).build();
     }
 
+    @PostMapping("/batch")
+    public ResponseEntity<List<ApiResponse.Employee>> getEmployeesByIds(
+            @RequestBody @Valid EmpBatchRequestDto request) {
+        logger.info("POST batch of {} employee ids", request.ids().size());
+        List<ApiResponse.Employee> employeeList = employeeService.getEmployeesByIds(request.ids());
+        return !employeeList.isEmpty()
+                ? ResponseEntity.ok(employeeList)
+                : ResponseEntity.noContent().build();
+    }
+
     @Override
     public ResponseEntity<Integer> getHighestSalaryOfEmployees() {
         logger.info("GET highest salary of employees");
@@ -60,6 +73,15 @@ public class EmployeeController implements IEmployeeController<ApiResponse.Emplo
                 : ResponseEntity.noContent().build();
     }
 
+    @GetMapping("/stats")
+    public ResponseEntity<ApiResponse.EmployeeStats> getEmployeeStats() {
+        logger.info("GET employee statistics");
+        ApiResponse.EmployeeStats stats = employeeService.getEmployeeStats();
+        return stats != null && stats.count() > 0
+                ? ResponseEntity.ok(stats)
+                : ResponseEntity.noContent().build();
+    }
+
     @Override
     public ResponseEntity<List<String>> getTopTenHighestEarningEmployeeNames() {
         logger.info("GET names of top 10 highest paid employees");
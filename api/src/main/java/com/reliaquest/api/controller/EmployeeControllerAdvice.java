@@ -1,8 +1,11 @@
 package com.reliaquest.api.controller;
 
 import com.reliaquest.api.exception.APIException;
+import com.reliaquest.api.exception.WriteQueueFullException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -17,4 +20,12 @@ public class EmployeeControllerAdvice {
         logger.error("Error handling web request.", ex);
         return ResponseEntity.internalServerError().body(ex.getMessage());
     }
+
+    @ExceptionHandler
+    protected ResponseEntity<?> handleQueueFull(WriteQueueFullException ex) {
+        logger.warn("Rejecting web request: {}", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(ex.getMessage());
+    }
 }
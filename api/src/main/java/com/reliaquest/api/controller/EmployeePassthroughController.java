@@ -0,0 +1,69 @@
+package com.reliaquest.api.controller;
+
+import com.reliaquest.api.service.EmployeeService;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Iterator;
+import java.util.stream.Stream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+/**
+ * Passthrough variants of the read endpoints. The upstream {@code data} payload is copied to the response as it
+ * streams in, skipping the decode into {@code ApiResponse} records and the re-encode on the way out.
+ */
+@RestController
+@RequestMapping("api/v1/employee/raw")
+public class EmployeePassthroughController {
+
+    private static final Logger logger = LoggerFactory.getLogger(EmployeePassthroughController.class);
+
+    @Autowired
+    EmployeeService employeeService;
+
+    @GetMapping()
+    public ResponseEntity<StreamingResponseBody> getAllEmployees() {
+        logger.info("GET all employees (passthrough).");
+        Stream<DataBuffer> body = employeeService.getAllEmployeesRaw().toStream();
+        Iterator<DataBuffer> buffers = body.iterator();
+        try {
+            // wait for the first bytes, so a request failing up front still gets an error status instead of a 200
+            buffers.hasNext();
+        } catch (RuntimeException e) {
+            body.close();
+            throw e;
+        }
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(outputStream -> {
+            try (body) {
+                while (buffers.hasNext()) {
+                    try (InputStream buffer = buffers.next().asInputStream(true)) {
+                        buffer.transferTo(outputStream);
+                    }
+                }
+            } catch (RuntimeException e) {
+                // The status is already sent. Failing the write makes the container drop the connection instead of
+                // ending the chunked body, so clients cannot take the truncated array for a complete one.
+                throw new IOException("Upstream failed while streaming employees", e);
+            }
+        });
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<byte[]> getEmployeeById(@PathVariable String id) {
+        logger.info("GET employee for id {} (passthrough)", id);
+        byte[] employee = employeeService.getEmployeeByIdRaw(id);
+        return employee != null
+                ? ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(employee)
+                : ResponseEntity.status(HttpStatus.NOT_FOUND).build();
+    }
+}
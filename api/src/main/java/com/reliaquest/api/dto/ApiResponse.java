@@ -1,6 +1,8 @@
 package com.reliaquest.api.dto;
 
 import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
 
 public class ApiResponse {
     public record Employee(
@@ -16,4 +18,17 @@ public class ApiResponse {
     public record DeleteRecordResponse(String data, String status) {}
 
     public record EmployeeResponse(Employee data, String status) {}
+
+    public record EmployeeStats(
+            long count,
+            double averageSalary,
+            double averageAge,
+            Integer minSalary,
+            Integer maxSalary,
+            int salaryBucketWidth,
+            SortedMap<Integer, Long> salaryHistogram,
+            Map<String, Integer> salaryPercentiles,
+            Map<String, Long> headcountByTitle) {}
+
+    public record EmployeeStatsResponse(EmployeeStats data, String status) {}
 }
@@ -0,0 +1,6 @@
+package com.reliaquest.api.dto;
+
+import jakarta.validation.constraints.*;
+import java.util.List;
+
+public record EmpBatchRequestDto(@NotEmpty @Size(max = 1000) List<@NotBlank String> ids) {}
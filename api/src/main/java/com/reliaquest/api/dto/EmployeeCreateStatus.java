@@ -0,0 +1,35 @@
+package com.reliaquest.api.dto;
+
+import java.time.Instant;
+
+public record EmployeeCreateStatus(
+        String trackingId,
+        State state,
+        ApiResponse.Employee employee,
+        String error,
+        Instant submittedAt,
+        Instant completedAt) {
+
+    public enum State {
+        QUEUED,
+        RUNNING,
+        COMPLETED,
+        FAILED
+    }
+
+    public static EmployeeCreateStatus queued(String trackingId) {
+        return new EmployeeCreateStatus(trackingId, State.QUEUED, null, null, Instant.now(), null);
+    }
+
+    public EmployeeCreateStatus running() {
+        return new EmployeeCreateStatus(trackingId, State.RUNNING, null, null, submittedAt, null);
+    }
+
+    public EmployeeCreateStatus completed(ApiResponse.Employee employee) {
+        return new EmployeeCreateStatus(trackingId, State.COMPLETED, employee, null, submittedAt, Instant.now());
+    }
+
+    public EmployeeCreateStatus failed(String error) {
+        return new EmployeeCreateStatus(trackingId, State.FAILED, null, error, submittedAt, Instant.now());
+    }
+}
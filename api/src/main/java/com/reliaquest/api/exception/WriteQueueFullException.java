@@ -0,0 +1,8 @@
+package com.reliaquest.api.exception;
+
+public class WriteQueueFullException extends APIException {
+
+    public WriteQueueFullException(int code, String message) {
+        super(code, message);
+    }
+}
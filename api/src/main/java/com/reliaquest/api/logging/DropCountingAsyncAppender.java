@@ -0,0 +1,51 @@
+package com.reliaquest.api.logging;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Logback {@link AsyncAppender} that counts what it throws away. The bounded queue is a ring buffer between the
+ * request threads and the single writer thread; with {@code neverBlock} a full queue drops the event instead of
+ * stalling the caller, and below the discarding threshold INFO and lower events are shed first.
+ */
+public class DropCountingAsyncAppender extends AsyncAppender {
+
+    private final LongAdder dropped = new LongAdder();
+
+    private final LongAdder discarded = new LongAdder();
+
+    // Logback only asks once the queue is below the discarding threshold, so every true answer is an event shed
+    @Override
+    protected boolean isDiscardable(ILoggingEvent event) {
+        boolean discardable = super.isDiscardable(event);
+        if (discardable) {
+            discarded.increment();
+        }
+        return discardable;
+    }
+
+    // Runs right before logback offers the event to the queue. The offer's result is not exposed, so a queue that is
+    // full at this point counts as a drop; concurrent offers and takes in between make this count an estimate.
+    @Override
+    protected void preprocess(ILoggingEvent event) {
+        super.preprocess(event);
+        if (isNeverBlock() && getRemainingCapacity() == 0) {
+            dropped.increment();
+        }
+    }
+
+    /**
+     * Events lost because the queue was full, as seen just before each offer.
+     */
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    /**
+     * Low-priority events shed because the queue was close to full.
+     */
+    public long getDiscardedCount() {
+        return discarded.sum();
+    }
+}
@@ -0,0 +1,56 @@
+package com.reliaquest.api.logging;
+
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.util.Iterator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * Publishes the async appender queue depth and drop counters and the sampling filter counter as metrics.
+ */
+@Component
+public class LoggingMetrics implements MeterBinder {
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        if (!(LoggerFactory.getILoggerFactory() instanceof LoggerContext context)) {
+            return;
+        }
+        Iterator<Appender<ILoggingEvent>> appenders =
+                context.getLogger(Logger.ROOT_LOGGER_NAME).iteratorForAppenders();
+        while (appenders.hasNext()) {
+            if (appenders.next() instanceof DropCountingAsyncAppender appender) {
+                bindAppender(registry, appender);
+            }
+        }
+        context.getTurboFilterList().stream()
+                .filter(SamplingTurboFilter.class::isInstance)
+                .map(SamplingTurboFilter.class::cast)
+                .forEach(filter -> FunctionCounter.builder(
+                                "logging.sampled.out", filter, SamplingTurboFilter::getSampledOutCount)
+                        .description("Log statements skipped by sampling")
+                        .register(registry));
+    }
+
+    private void bindAppender(MeterRegistry registry, DropCountingAsyncAppender appender) {
+        FunctionCounter.builder("logging.async.dropped", appender, DropCountingAsyncAppender::getDroppedCount)
+                .tag("appender", appender.getName())
+                .description("Log events dropped because the queue was full")
+                .register(registry);
+        FunctionCounter.builder("logging.async.discarded", appender, DropCountingAsyncAppender::getDiscardedCount)
+                .tag("appender", appender.getName())
+                .description("Low-priority log events shed near queue capacity")
+                .register(registry);
+        Gauge.builder("logging.async.queue.size", appender, DropCountingAsyncAppender::getNumberOfElementsInQueue)
+                .tag("appender", appender.getName())
+                .description("Log events waiting to be written")
+                .register(registry);
+    }
+}
@@ -0,0 +1,68 @@
+package com.reliaquest.api.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import org.slf4j.Marker;
+
+/**
+ * Keeps one in {@code rate} INFO-or-lower log statements from the configured loggers and their descendants; warnings
+ * and errors always pass, as does everything logged elsewhere. Only the per-request loggers should be listed, since
+ * startup and upstream health lines are logged once and must not be lost. Runs as a turbo filter, before Logback
+ * builds the logging event, so a sampled-out statement costs a counter increment and nothing else.
+ */
+public class SamplingTurboFilter extends TurboFilter {
+
+    private final List<String> loggers = new ArrayList<>();
+
+    private final AtomicLong counter = new AtomicLong();
+
+    private final LongAdder sampledOut = new LongAdder();
+
+    private int rate = 1;
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        if (rate <= 1 || level == null || level.isGreaterOrEqual(Level.WARN) || !matches(logger.getName())) {
+            return FilterReply.NEUTRAL;
+        }
+        if (counter.getAndIncrement() % rate == 0) {
+            return FilterReply.NEUTRAL;
+        }
+        sampledOut.increment();
+        return FilterReply.DENY;
+    }
+
+    // The logger itself or a descendant in Logback's dotted hierarchy, so Foo does not also match FooAdvice
+    private boolean matches(String loggerName) {
+        for (String name : loggers) {
+            if (loggerName.startsWith(name)
+                    && (loggerName.length() == name.length() || loggerName.charAt(name.length()) == '.')) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /** Adds one logger name, or several separated by commas. */
+    public void addLoggerName(String names) {
+        for (String name : names.split(",")) {
+            if (!name.isBlank()) {
+                loggers.add(name.strip());
+            }
+        }
+    }
+
+    public void setRate(int rate) {
+        this.rate = rate;
+    }
+
+    public long getSampledOutCount() {
+        return sampledOut.sum();
+    }
+}
@@ -0,0 +1,151 @@
+package com.reliaquest.api.service;
+
+import com.reliaquest.api.client.ApiClient;
+import com.reliaquest.api.dto.ApiResponse;
+import com.reliaquest.api.dto.EmpRequestDto;
+import com.reliaquest.api.dto.EmployeeCreateStatus;
+import com.reliaquest.api.exception.ServerException;
+import com.reliaquest.api.exception.WriteQueueFullException;
+import jakarta.annotation.PreDestroy;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+/**
+ * Asynchronous create path: validated requests are put on a bounded queue and drained by a fixed set of workers, so
+ * request threads return immediately while the workers absorb upstream rate limiting. An optional minimum interval
+ * between upstream calls spreads bursts out evenly instead of tripping the rate limiter.
+ */
+@Service
+@ConditionalOnProperty(name = "employee.async-create.enabled", havingValue = "true")
+public class EmployeeCreatePipeline {
+
+    private static final Logger logger = LoggerFactory.getLogger(EmployeeCreatePipeline.class);
+
+    private final ApiClient apiClient;
+
+    private final ThreadPoolExecutor workers;
+
+    private final Map<String, EmployeeCreateStatus> tasks = new ConcurrentHashMap<>();
+
+    private final Queue<String> trackingOrder = new ConcurrentLinkedQueue<>();
+
+    private final int maxTrackedTasks;
+
+    private final long intervalNanos;
+
+    private final AtomicLong nextSlot = new AtomicLong(System.nanoTime());
+
+    @Autowired
+    public EmployeeCreatePipeline(
+            ApiClient apiClient,
+            @Value("${employee.async-create.queue-capacity:1000}") int queueCapacity,
+            @Value("${employee.async-create.workers:2}") int workerCount,
+            @Value("${employee.async-create.max-tracked-tasks:10000}") int maxTrackedTasks,
+            @Value("${employee.async-create.min-interval-ms:0}") long minIntervalMillis) {
+        this.apiClient = apiClient;
+        this.maxTrackedTasks = maxTrackedTasks;
+        this.intervalNanos = TimeUnit.MILLISECONDS.toNanos(minIntervalMillis);
+        this.workers = new ThreadPoolExecutor(
+                workerCount,
+                workerCount,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new CustomizableThreadFactory("employee-create-"),
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    public EmployeeCreateStatus submit(EmpRequestDto dto) {
+        String trackingId = UUID.randomUUID().toString();
+        EmployeeCreateStatus queued = EmployeeCreateStatus.queued(trackingId);
+        tasks.put(trackingId, queued);
+        try {
+            workers.execute(() -> process(trackingId, dto));
+        } catch (RejectedExecutionException e) {
+            tasks.remove(trackingId);
+            logger.error("Create queue is full, rejecting employee {}", dto.name());
+            throw new WriteQueueFullException(HttpStatus.SERVICE_UNAVAILABLE.value(), "Create queue is full.");
+        }
+        track(trackingId);
+        return queued;
+    }
+
+    public Optional<EmployeeCreateStatus> getStatus(String trackingId) {
+        return Optional.ofNullable(tasks.get(trackingId));
+    }
+
+    public int getQueueDepth() {
+        return workers.getQueue().size();
+    }
+
+    private void process(String trackingId, EmpRequestDto dto) {
+        tasks.computeIfPresent(trackingId, (id, status) -> status.running());
+        try {
+            pace();
+            // an empty answer must not complete the task with a null employee
+            ApiResponse.Employee employee = apiClient
+                    .createEmployee(dto)
+                    .blockOptional()
+                    .orElseThrow(() ->
+                            new ServerException(HttpStatus.BAD_GATEWAY.value(), "Upstream returned no employee."));
+            tasks.computeIfPresent(trackingId, (id, status) -> status.completed(employee));
+            logger.info("Employee {} created for tracking id {}", dto.name(), trackingId);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            tasks.computeIfPresent(trackingId, (id, status) -> status.failed("Interrupted before completion."));
+        } catch (RuntimeException e) {
+            logger.error("Employee creation failed for tracking id {}", trackingId, e);
+            tasks.computeIfPresent(trackingId, (id, status) -> status.failed(e.getMessage()));
+        }
+    }
+
+    // Reserve the next upstream slot so consecutive calls are at least the configured interval apart
+    private void pace() throws InterruptedException {
+        if (intervalNanos == 0) {
+            return;
+        }
+        long now = System.nanoTime();
+        long slot = Math.max(now, nextSlot.getAndUpdate(previous -> Math.max(previous, now) + intervalNanos));
+        long wait = slot - now;
+        if (wait > 0) {
+            TimeUnit.NANOSECONDS.sleep(wait);
+        }
+    }
+
+    // Forget the oldest statuses once more than the configured number are tracked
+    private void track(String trackingId) {
+        trackingOrder.add(trackingId);
+        while (tasks.size() > maxTrackedTasks) {
+            String oldest = trackingOrder.poll();
+            if (oldest == null) {
+                return;
+            }
+            tasks.remove(oldest);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        workers.shutdown();
+        if (!workers.awaitTermination(30, TimeUnit.SECONDS)) {
+            logger.warn("Dropping {} queued employee creates on shutdown.", workers.shutdownNow().size());
+        }
+    }
+}
@@ -10,7 +10,10 @@ import java.util.List;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
 
 @Service
 public class EmployeeService {
@@ -35,10 +38,32 @@ public class EmployeeService {
         }
     }
 
+    public Flux<DataBuffer> getAllEmployeesRaw() {
+        return apiClient.getAllEmployeesRaw();
+    }
+
+    public byte[] getEmployeeByIdRaw(String id) {
+        DataBuffer buffer = apiClient.getEmployeeByIdRaw(id).block();
+        if (buffer == null) {
+            return null;
+        }
+        try {
+            byte[] json = new byte[buffer.readableByteCount()];
+            buffer.read(json);
+            return json;
+        } finally {
+            DataBufferUtils.release(buffer);
+        }
+    }
+
     public Integer getMaxSal() {
         return apiClient.getHighestSalaryOfEmployees().block();
     }
 
+    public ApiResponse.EmployeeStats getEmployeeStats() {
+        return apiClient.getEmployeeStats().block();
+    }
+
     public List<ApiResponse.Employee> getEmployeeByName(String searchString) {
         return apiClient.getEmployeesByNameSearch(searchString).block();
     }
@@ -51,13 +76,20 @@ public class EmployeeService {
         return apiClient.getEmployeeById(id).block();
     }
 
+    public List<ApiResponse.Employee> getEmployeesByIds(List<String> ids) {
+        List<ApiResponse.Employee> employees = apiClient.getEmployeesByIds(ids).block();
+        return employees != null ? employees : Collections.emptyList();
+    }
+
     public List<String> getTenTopSalaryEmpList() {
         return apiClient.getTop10HighestEarningEmployeeNames().block();
     }
 
     public String deleteEmployeeById(String id) {
         try {
-            ApiResponse.Employee employee = apiClient.getEmployeeById(id).block();
+            // not from the cache: a stale entry would name an employee deleted elsewhere, and the upstream deletes the
+            // first employee with that name, possibly someone else
+            ApiResponse.Employee employee = apiClient.getEmployeeByIdUncached(id).block();
             if (employee != null) {
                 // fetch name from employee as client DELETE API accepts name
                 String name = employee.employee_name();
@@ -0,0 +1,87 @@
+package com.reliaquest.api.startup;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Measures time-to-first-fast-request: the time from JVM start until the first request that completes within
+ * {@code employee.warmup.fast-request-ms}. Logged once together with the warm-up duration and the latency of the very
+ * first request, then the filter stops timing. Actuator requests are not counted.
+ */
+@Component
+public class StartupTimer extends OncePerRequestFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(StartupTimer.class);
+
+    private static final String ACTUATOR_PATH = "/actuator";
+
+    private final long fastRequestNanos;
+
+    private volatile Duration warmup = Duration.ZERO;
+
+    private volatile Duration firstRequest;
+
+    private volatile boolean done;
+
+    public StartupTimer(@Value("${employee.warmup.fast-request-ms:50}") long fastRequestMillis) {
+        this.fastRequestNanos = Duration.ofMillis(fastRequestMillis).toNanos();
+    }
+
+    public void warmupCompleted(Duration duration) {
+        warmup = duration;
+        logger.info("Warm-up completed in {} ms.", duration.toMillis());
+    }
+
+    // Readiness and liveness probes are cheap and arrive before any real traffic, so they would end the measurement
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return path.equals(ACTUATOR_PATH) || path.startsWith(ACTUATOR_PATH + "/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        if (done) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        long started = System.nanoTime();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            record(System.nanoTime() - started);
+        }
+    }
+
+    private synchronized void record(long elapsedNanos) {
+        if (done) {
+            return;
+        }
+        if (firstRequest == null) {
+            firstRequest = Duration.ofNanos(elapsedNanos);
+        }
+        if (elapsedNanos <= fastRequestNanos) {
+            done = true;
+            long sinceJvmStart = System.currentTimeMillis()
+                    - ManagementFactory.getRuntimeMXBean().getStartTime();
+            logger.info(
+                    "Time to first fast request: {} ms after JVM start (warm-up {} ms, first request {} ms, this"
+                            + " request {} ms).",
+                    sinceJvmStart,
+                    warmup.toMillis(),
+                    firstRequest.toMillis(),
+                    Duration.ofNanos(elapsedNanos).toMillis());
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.reliaquest.api.startup;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.reliaquest.api.client.Upstream;
+import com.reliaquest.api.client.UpstreamRegistry;
+import java.time.Duration;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+
+/**
+ * Refuses to start when a configured upstream is a read replica. Every upstream is treated as the owner of a shard,
+ * so a replica listed next to its primary would return each employee once per copy and have its statistics merged
+ * twice, and writes routed to it would be rejected. Upstreams that cannot be reached or do not serve
+ * {@code /replication/status} are assumed to be primaries.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class UpstreamRoleCheck implements ApplicationRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(UpstreamRoleCheck.class);
+
+    private static final String REPLICA = "replica";
+
+    private final UpstreamRegistry upstreams;
+
+    private final WebClient.Builder webClientBuilder;
+
+    @Value("${mockserver.verify-roles:true}")
+    private boolean enabled;
+
+    @Value("${mockserver.verify-roles-timeout-seconds:5}")
+    private long timeoutSeconds;
+
+    @Autowired
+    public UpstreamRoleCheck(UpstreamRegistry upstreams, WebClient.Builder webClientBuilder) {
+        this.upstreams = upstreams;
+        this.webClientBuilder = webClientBuilder;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!enabled) {
+            return;
+        }
+        List<String> replicas = upstreams.all().stream()
+                .filter(upstream -> REPLICA.equals(role(upstream)))
+                .map(Upstream::baseUrl)
+                .toList();
+        if (!replicas.isEmpty()) {
+            throw new IllegalStateException("mockserver.upstreams must list primaries only, but " + replicas
+                    + " are read replicas. Each upstream is queried as a shard of its own.");
+        }
+    }
+
+    private String role(Upstream upstream) {
+        try {
+            JsonNode status = webClientBuilder
+                    .clone()
+                    .baseUrl(upstream.baseUrl())
+                    .build()
+                    .get()
+                    .uri("/replication/status")
+                    .retrieve()
+                    .bodyToMono(JsonNode.class)
+                    .block(Duration.ofSeconds(timeoutSeconds));
+            return status != null ? status.path("data").path("role").asText("") : "";
+        } catch (RuntimeException e) {
+            logger.debug("Could not read the role of upstream {}: {}", upstream.baseUrl(), e.getMessage());
+            return "";
+        }
+    }
+}
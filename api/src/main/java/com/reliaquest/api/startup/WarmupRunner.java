@@ -0,0 +1,157 @@
+package com.reliaquest.api.startup;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.client.ApiClient;
+import com.reliaquest.api.client.JsonDataExtractor;
+import com.reliaquest.api.dto.ApiResponse;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+
+/**
+ * Warms the API before it reports ready. Application runners complete before Spring Boot flips the readiness state to
+ * accepting traffic, so the first routed request does not pay for cold connections, Jackson introspection of the
+ * {@code ApiResponse} records or an interpreted JIT.
+ *
+ * <ol>
+ *   <li>Preloads the employee snapshot from the upstreams, which also opens a pooled connection to each of them. If
+ *   that fails or is disabled, the local snapshot file is used instead.</li>
+ *   <li>Runs the snapshot through the JSON encode/decode and passthrough paths until they are compiled.</li>
+ *   <li>Writes a fresh upstream snapshot back to the snapshot file for the next start.</li>
+ * </ol>
+ */
+@Component
+public class WarmupRunner implements ApplicationRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(WarmupRunner.class);
+
+    private static final int SAMPLE_SIZE = 100;
+
+    private final ApiClient apiClient;
+
+    private final ObjectMapper objectMapper;
+
+    private final StartupTimer startupTimer;
+
+    @Value("${employee.warmup.enabled:true}")
+    private boolean enabled;
+
+    @Value("${employee.warmup.preload-upstream:true}")
+    private boolean preloadUpstream;
+
+    @Value("${employee.warmup.snapshot-file:}")
+    private String snapshotFile;
+
+    @Value("${employee.warmup.iterations:2000}")
+    private int iterations;
+
+    @Value("${employee.warmup.timeout-seconds:10}")
+    private long timeoutSeconds;
+
+    @Autowired
+    public WarmupRunner(ApiClient apiClient, ObjectMapper objectMapper, StartupTimer startupTimer) {
+        this.apiClient = apiClient;
+        this.objectMapper = objectMapper;
+        this.startupTimer = startupTimer;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!enabled) {
+            return;
+        }
+        long started = System.nanoTime();
+        List<ApiResponse.Employee> snapshot = preload();
+        exercise(snapshot);
+        startupTimer.warmupCompleted(Duration.ofNanos(System.nanoTime() - started));
+    }
+
+    private List<ApiResponse.Employee> preload() {
+        if (preloadUpstream) {
+            try {
+                List<ApiResponse.Employee> employees =
+                        apiClient.getAllEmployees().block(Duration.ofSeconds(timeoutSeconds));
+                if (employees != null) {
+                    logger.info("Preloaded {} employees from upstream.", employees.size());
+                    saveSnapshot(employees);
+                    return employees;
+                }
+            } catch (RuntimeException e) {
+                logger.warn("Upstream preload failed, falling back to snapshot file: {}", e.getMessage());
+            }
+        }
+        return loadSnapshot();
+    }
+
+    private List<ApiResponse.Employee> loadSnapshot() {
+        if (snapshotFile.isBlank() || !Files.isReadable(Path.of(snapshotFile))) {
+            return List.of();
+        }
+        try {
+            List<ApiResponse.Employee> employees = objectMapper.readValue(
+                    Path.of(snapshotFile).toFile(), new TypeReference<List<ApiResponse.Employee>>() {});
+            logger.info("Loaded {} employees from snapshot file {}.", employees.size(), snapshotFile);
+            return employees;
+        } catch (IOException e) {
+            logger.warn("Could not read snapshot file {}: {}", snapshotFile, e.getMessage());
+            return List.of();
+        }
+    }
+
+    // Write to a temporary file first so a crash mid-write never leaves a truncated snapshot behind
+    private void saveSnapshot(List<ApiResponse.Employee> employees) {
+        if (snapshotFile.isBlank()) {
+            return;
+        }
+        try {
+            Path target = Path.of(snapshotFile).toAbsolutePath();
+            Files.createDirectories(target.getParent());
+            Path temporary = Files.createTempFile(target.getParent(), "employees", ".json");
+            objectMapper.writeValue(temporary.toFile(), employees);
+            Files.move(temporary, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            logger.warn("Could not write snapshot file {}: {}", snapshotFile, e.getMessage());
+        }
+    }
+
+    private void exercise(List<ApiResponse.Employee> snapshot) {
+        List<ApiResponse.Employee> sample = snapshot.isEmpty()
+                ? List.of(new ApiResponse.Employee(
+                        "00000000-0000-0000-0000-000000000000",
+                        "Warm Up",
+                        100000,
+                        30,
+                        "Engineer",
+                        "warmup@company.com"))
+                : snapshot.subList(0, Math.min(SAMPLE_SIZE, snapshot.size()));
+        try {
+            byte[] envelope = objectMapper.writeValueAsBytes(new ApiResponse.EmployeeListResponse(sample, "warmup"));
+            for (int i = 0; i < iterations; i++) {
+                ApiResponse.EmployeeListResponse decoded =
+                        objectMapper.readValue(envelope, ApiResponse.EmployeeListResponse.class);
+                objectMapper.writeValueAsBytes(decoded.data());
+                DataBufferUtils.join(JsonDataExtractor.mergeDataArrays(
+                                List.of(Flux.just(DefaultDataBufferFactory.sharedInstance.wrap(envelope)))))
+                        .doOnNext(DataBufferUtils::release)
+                        .block();
+            }
+            logger.info("Exercised serialization paths {} times with {} employees.", iterations, sample.size());
+        } catch (IOException e) {
+            logger.warn("Serialization warm-up failed: {}", e.getMessage());
+        }
+    }
+}
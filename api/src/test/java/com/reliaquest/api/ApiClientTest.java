@@ -0,0 +1,223 @@
+package com.reliaquest.api;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.cache.EmployeeCache;
+import com.reliaquest.api.client.ApiClient;
+import com.reliaquest.api.client.UpstreamRegistry;
+import com.reliaquest.api.dto.ApiResponse;
+import com.reliaquest.api.exception.ResourceNotFoundException;
+import com.reliaquest.api.exception.ServerException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+
+class ApiClientTest {
+
+    private static final String FIRST = "http://first/";
+
+    private static final String SECOND = "http://second/";
+
+    private static final String BILL_BOB = "{\"data\":[{\"id\":\"2\",\"employee_name\":\"Bill Bob\","
+            + "\"employee_salary\":89750,\"employee_age\":24}],\"status\":\"ok\"}";
+
+    // Answers by upstream host; hosts without an answer respond with 503. Upstreams listed as down are cooling down
+    // after a failure, as if an earlier request had failed on them.
+    private static ApiClient client(
+            Map<String, Supplier<ClientResponse>> responses, EmployeeCache cache, String... down) {
+        WebClient.Builder builder = WebClient.builder()
+                .exchangeFunction(request -> Mono.fromSupplier(responses.getOrDefault(
+                        request.url().getHost(),
+                        () -> ClientResponse.create(HttpStatus.SERVICE_UNAVAILABLE)
+                                .build())));
+        UpstreamRegistry registry = new UpstreamRegistry(builder, List.of(FIRST, SECOND), 10, 30);
+        for (String baseUrl : down) {
+            registry.all().stream()
+                    .filter(upstream -> upstream.baseUrl().equals(baseUrl))
+                    .forEach(upstream -> upstream.markDown(new IllegalStateException("down")));
+        }
+        return new ApiClient(registry, cache);
+    }
+
+    private static Supplier<ClientResponse> counted(AtomicInteger calls, Supplier<ClientResponse> response) {
+        return () -> {
+            calls.incrementAndGet();
+            return response.get();
+        };
+    }
+
+    private static Supplier<ClientResponse> ok(String body) {
+        return () -> ClientResponse.create(HttpStatus.OK)
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .body(body)
+                .build();
+    }
+
+    private static Supplier<ClientResponse> status(HttpStatus status) {
+        // Retry-After 0 lets a 429 exhaust its retries without waiting
+        return () -> ClientResponse.create(status)
+                .header(HttpHeaders.RETRY_AFTER, "0")
+                .build();
+    }
+
+    private static String raw(ApiClient client) {
+        return DataBufferUtils.join(client.getAllEmployeesRaw())
+                .map(buffer -> {
+                    String json = buffer.toString(StandardCharsets.UTF_8);
+                    DataBufferUtils.release(buffer);
+                    return json;
+                })
+                .block();
+    }
+
+    @Test
+    void testGetAllEmployeesRaw_skipsShardFailingUpFront() {
+
+        ApiClient client = client(Map.of("second", ok(BILL_BOB)), EmployeeCache.disabled());
+
+        assertEquals(
+                "[{\"id\":\"2\",\"employee_name\":\"Bill Bob\",\"employee_salary\":89750,\"employee_age\":24}]",
+                raw(client));
+    }
+
+    @Test
+    void testGetAllEmployeesRaw_failsWhenEveryShardFails() {
+
+        ApiClient client = client(Map.of(), EmployeeCache.disabled());
+
+        assertThrows(ServerException.class, () -> raw(client));
+    }
+
+    @Test
+    void testGetEmployeesByIds_servesCachedIdsLocallyInRequestOrder() {
+
+        EmployeeCache cache = new EmployeeCache(new ObjectMapper(), true, 100, 60, 5, false, "", 0, 600);
+        ApiResponse.Employee cachedTiger =
+                new ApiResponse.Employee("1", "Tiger Nixon", 320800, 61, "Vice Chair", "tnixon@company.com");
+        cache.put(cachedTiger);
+        // the stub ignores the requested ids, so employee 1 can only come from the cache
+        ApiClient client = client(
+                Map.of(
+                        "first",
+                        ok("{\"data\":[{\"id\":\"3\",\"employee_name\":\"Jill\"}],\"status\":\"ok\"}"),
+                        "second",
+                        ok(BILL_BOB)),
+                cache);
+
+        List<ApiResponse.Employee> employees = client.getEmployeesByIds(List.of("3", "1", "2", "3")).block();
+
+        assertEquals(List.of("3", "1", "2"), employees.stream().map(ApiResponse.Employee::id).toList());
+        assertEquals(cachedTiger, employees.get(1));
+        assertEquals("Jill", cache.get("3").orElseThrow().employee_name());
+    }
+
+    @Test
+    void testGetEmployeesByIds_cachesIdsNoShardKnows() {
+
+        EmployeeCache cache = new EmployeeCache(new ObjectMapper(), true, 100, 60, 5, false, "", 0, 600);
+        ApiClient client =
+                client(Map.of("first", ok("{\"data\":[],\"status\":\"ok\"}"), "second", ok(BILL_BOB)), cache);
+
+        List<ApiResponse.Employee> employees = client.getEmployeesByIds(List.of("2", "9")).block();
+
+        assertEquals(List.of("2"), employees.stream().map(ApiResponse.Employee::id).toList());
+        assertTrue(cache.isKnownMissing("9"));
+        assertFalse(cache.isKnownMissing("2"));
+    }
+
+    @Test
+    void testGetEmployeesByIds_doesNotCacheMissesWhileAShardFails() {
+
+        EmployeeCache cache = new EmployeeCache(new ObjectMapper(), true, 100, 60, 5, false, "", 0, 600);
+        ApiClient client = client(Map.of("second", ok(BILL_BOB)), cache);
+
+        List<ApiResponse.Employee> employees = client.getEmployeesByIds(List.of("2", "9")).block();
+
+        assertEquals(List.of("2"), employees.stream().map(ApiResponse.Employee::id).toList());
+        assertFalse(cache.isKnownMissing("9"));
+    }
+
+    @Test
+    void testGetAllEmployees_skipsShardStillRateLimitedAfterRetries() {
+
+        ApiClient client = client(
+                Map.of("first", status(HttpStatus.TOO_MANY_REQUESTS), "second", ok(BILL_BOB)),
+                EmployeeCache.disabled());
+
+        List<ApiResponse.Employee> employees = client.getAllEmployees().block();
+
+        assertEquals(List.of("2"), employees.stream().map(ApiResponse.Employee::id).toList());
+    }
+
+    @Test
+    void testGetEmployeeById_shardFailureIsNotReportedAsMissing() {
+
+        ApiClient client = client(
+                Map.of("first", status(HttpStatus.TOO_MANY_REQUESTS), "second", status(HttpStatus.NOT_FOUND)),
+                EmployeeCache.disabled());
+
+        WebClientResponseException ex =
+                assertThrows(WebClientResponseException.class, () -> client.getEmployeeById("2").block());
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS, ex.getStatusCode());
+    }
+
+    @Test
+    void testGetEmployeeById_notFoundIsUnavailableWhileAShardCoolsDown() {
+
+        EmployeeCache cache = new EmployeeCache(new ObjectMapper(), true, 100, 60, 5, false, "", 0, 600);
+        AtomicInteger firstCalls = new AtomicInteger();
+        ApiClient client = client(
+                Map.of("first", counted(firstCalls, ok(BILL_BOB)), "second", status(HttpStatus.NOT_FOUND)),
+                cache,
+                FIRST);
+
+        ServerException ex = assertThrows(ServerException.class, () -> client.getEmployeeById("2").block());
+
+        assertTrue(ex.getMessage().contains("code: 503"));
+        assertEquals(0, firstCalls.get());
+        assertFalse(cache.isKnownMissing("2"));
+    }
+
+    @Test
+    void testGetEmployeesByIds_doesNotCacheMissesWhileAShardCoolsDown() {
+
+        EmployeeCache cache = new EmployeeCache(new ObjectMapper(), true, 100, 60, 5, false, "", 0, 600);
+        AtomicInteger firstCalls = new AtomicInteger();
+        ApiClient client = client(
+                Map.of("first", counted(firstCalls, ok("{\"data\":[],\"status\":\"ok\"}")), "second", ok(BILL_BOB)),
+                cache,
+                FIRST);
+
+        List<ApiResponse.Employee> employees = client.getEmployeesByIds(List.of("2", "9")).block();
+
+        assertEquals(List.of("2"), employees.stream().map(ApiResponse.Employee::id).toList());
+        assertEquals(0, firstCalls.get());
+        assertFalse(cache.isKnownMissing("9"));
+    }
+
+    @Test
+    void testGetEmployeeByIdUncached_asksUpstreamAndDropsStaleEntry() {
+
+        EmployeeCache cache = new EmployeeCache(new ObjectMapper(), true, 100, 60, 5, false, "", 0, 600);
+        cache.put(new ApiResponse.Employee("1", "Tiger Nixon", 320800, 61, "Vice Chair", "tnixon@company.com"));
+        ApiClient client = client(
+                Map.of("first", status(HttpStatus.NOT_FOUND), "second", status(HttpStatus.NOT_FOUND)), cache);
+
+        assertThrows(ResourceNotFoundException.class, () -> client.getEmployeeByIdUncached("1").block());
+
+        assertTrue(cache.get("1").isEmpty());
+        assertTrue(cache.isKnownMissing("1"));
+    }
+}
@@ -0,0 +1,118 @@
+package com.reliaquest.api;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.cache.EmployeeCache;
+import com.reliaquest.api.dto.ApiResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class EmployeeCacheTest {
+
+    private static final ApiResponse.Employee TIGER =
+            new ApiResponse.Employee("1", "Tiger Nixon", 320800, 61, "Vice Chair", "tnixon@company.com");
+
+    private static final ApiResponse.Employee GARRETT =
+            new ApiResponse.Employee("2", "Garrett Winters", 170750, 63, "Accountant", "gwinters@company.com");
+
+    private EmployeeCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new EmployeeCache(new ObjectMapper(), true, 100, 60, 5, false, "", 0, 600);
+    }
+
+    @Test
+    void testGet_returnsEmployeesFromFullListRefresh() {
+
+        cache.putAll(List.of(TIGER, GARRETT));
+
+        assertEquals(TIGER, cache.get("1").orElseThrow());
+        assertEquals(GARRETT, cache.get("2").orElseThrow());
+        assertTrue(cache.get("3").isEmpty());
+        assertEquals(2.0 / 3, cache.hitRatio(), 1e-9);
+    }
+
+    @Test
+    void testPut_clearsNegativeEntry() {
+
+        cache.putMissing("1");
+        assertTrue(cache.isKnownMissing("1"));
+
+        cache.put(TIGER);
+
+        assertFalse(cache.isKnownMissing("1"));
+        assertEquals(TIGER, cache.get("1").orElseThrow());
+    }
+
+    @Test
+    void testInvalidateByName_ignoresCase() {
+
+        cache.putAll(List.of(TIGER, GARRETT));
+
+        cache.invalidateByName("tiger nixon");
+
+        assertTrue(cache.get("1").isEmpty());
+        assertTrue(cache.get("2").isPresent());
+    }
+
+    @Test
+    void testDisk_servesEmployeesEvictedFromMemory(@TempDir Path directory) throws Exception {
+
+        EmployeeCache tiered =
+                new EmployeeCache(new ObjectMapper(), true, 1, 60, 5, true, directory.toString(), 100, 600);
+
+        tiered.putAll(List.of(TIGER, GARRETT));
+        awaitDemotion(directory);
+
+        assertEquals(TIGER, tiered.get("1").orElseThrow());
+        assertEquals(GARRETT, tiered.get("2").orElseThrow());
+    }
+
+    @Test
+    void testDisk_putReplacesDemotedCopy(@TempDir Path directory) throws Exception {
+
+        EmployeeCache tiered =
+                new EmployeeCache(new ObjectMapper(), true, 1, 60, 5, true, directory.toString(), 100, 600);
+        ApiResponse.Employee promoted =
+                new ApiResponse.Employee("1", "Tiger Nixon", 400000, 62, "Chair", "tnixon@company.com");
+
+        tiered.putAll(List.of(TIGER, GARRETT));
+        awaitDemotion(directory);
+        tiered.put(promoted);
+        tiered.invalidateByName("Garrett Winters");
+
+        assertEquals(promoted, tiered.get("1").orElseThrow());
+        assertTrue(tiered.get("2").isEmpty());
+    }
+
+    // L1 evicts on Caffeine's maintenance executor, so wait until the evicted employee has been written out
+    private static void awaitDemotion(Path directory) throws Exception {
+        for (int attempt = 0; attempt < 100; attempt++) {
+            try (Stream<Path> files = Files.list(directory)) {
+                if (files.anyMatch(file -> file.toString().endsWith(".json"))) {
+                    return;
+                }
+            }
+            Thread.sleep(20);
+        }
+        fail("No employee was demoted to " + directory);
+    }
+
+    @Test
+    void testDisabled_neverCaches() {
+
+        EmployeeCache disabled = EmployeeCache.disabled();
+        disabled.put(TIGER);
+        disabled.putMissing("2");
+
+        assertTrue(disabled.get("1").isEmpty());
+        assertFalse(disabled.isKnownMissing("2"));
+    }
+}
@@ -0,0 +1,94 @@
+package com.reliaquest.api;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.reliaquest.api.client.ApiClient;
+import com.reliaquest.api.dto.ApiResponse;
+import com.reliaquest.api.dto.EmpRequestDto;
+import com.reliaquest.api.dto.EmployeeCreateStatus;
+import com.reliaquest.api.exception.WriteQueueFullException;
+import com.reliaquest.api.service.EmployeeCreatePipeline;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+
+class EmployeeCreatePipelineTest {
+
+    private final EmpRequestDto dto = new EmpRequestDto("Ashish Mishra", 120000, 30, "Manager", "abc@companyemail.in");
+
+    private EmployeeCreatePipeline pipeline;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        if (pipeline != null) {
+            pipeline.shutdown();
+        }
+    }
+
+    @Test
+    void testSubmit_completesInBackground() throws InterruptedException {
+
+        ApiClient apiClient = mock(ApiClient.class);
+        ApiResponse.Employee employee =
+                new ApiResponse.Employee("2", "Ashish Mishra", 120000, 30, "Manager", "abc@companyemail.in");
+        when(apiClient.createEmployee(dto)).thenReturn(Mono.just(employee));
+        pipeline = new EmployeeCreatePipeline(apiClient, 10, 1, 100, 0);
+
+        EmployeeCreateStatus submitted = pipeline.submit(dto);
+        assertEquals(EmployeeCreateStatus.State.QUEUED, submitted.state());
+
+        EmployeeCreateStatus status = awaitDone(submitted.trackingId());
+        assertEquals(EmployeeCreateStatus.State.COMPLETED, status.state());
+        assertEquals("2", status.employee().id());
+        verify(apiClient, times(1)).createEmployee(dto);
+    }
+
+    @Test
+    void testSubmit_failsWhenUpstreamReturnsNothing() throws InterruptedException {
+
+        ApiClient apiClient = mock(ApiClient.class);
+        when(apiClient.createEmployee(dto)).thenReturn(Mono.empty());
+        pipeline = new EmployeeCreatePipeline(apiClient, 10, 1, 100, 0);
+
+        EmployeeCreateStatus status = awaitDone(pipeline.submit(dto).trackingId());
+
+        assertEquals(EmployeeCreateStatus.State.FAILED, status.state());
+        assertNull(status.employee());
+    }
+
+    @Test
+    void testSubmit_rejectsWhenQueueIsFull() {
+
+        ApiClient apiClient = mock(ApiClient.class);
+        CountDownLatch release = new CountDownLatch(1);
+        when(apiClient.createEmployee(dto))
+                .thenReturn(Mono.fromCallable(() -> {
+                    release.await();
+                    return null;
+                }));
+        pipeline = new EmployeeCreatePipeline(apiClient, 1, 1, 100, 0);
+
+        try {
+            pipeline.submit(dto);
+            pipeline.submit(dto);
+            assertThrows(WriteQueueFullException.class, () -> pipeline.submit(dto));
+        } finally {
+            release.countDown();
+        }
+    }
+
+    private EmployeeCreateStatus awaitDone(String trackingId) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (System.nanoTime() < deadline) {
+            EmployeeCreateStatus status = pipeline.getStatus(trackingId).orElseThrow();
+            if (status.completedAt() != null) {
+                return status;
+            }
+            Thread.sleep(10);
+        }
+        return fail("Create did not complete in time");
+    }
+}
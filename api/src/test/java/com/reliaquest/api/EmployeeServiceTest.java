@@ -9,6 +9,8 @@ import com.reliaquest.api.dto.ApiResponse;
 import com.reliaquest.api.dto.EmpRequestDto;
 import com.reliaquest.api.service.EmployeeService;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.*;
@@ -67,6 +69,20 @@ class EmployeeServiceTest {
         verify(apiClient, times(1)).getHighestSalaryOfEmployees();
     }
 
+    @Test
+    void testGetEmployeeStats() {
+
+        ApiResponse.EmployeeStats stats = new ApiResponse.EmployeeStats(
+                2, 125000, 30, 100000, 150000, 5000, new TreeMap<>(), Map.of(), Map.of("Developer", 2L));
+        when(apiClient.getEmployeeStats()).thenReturn(Mono.just(stats));
+
+        ApiResponse.EmployeeStats result = employeeService.getEmployeeStats();
+
+        assertNotNull(result);
+        assertEquals(150000, result.maxSalary());
+        verify(apiClient, times(1)).getEmployeeStats();
+    }
+
     @Test
     void testGetEmployeeByName_success() {
 
@@ -132,25 +148,25 @@ class EmployeeServiceTest {
                 new ApiResponse.Employee("1", "Ravindra", 100000, 34, "Developer", "ravi@example.com");
         ApiResponse.DeleteRecordResponse deleteResponse = new ApiResponse.DeleteRecordResponse("true", "success");
 
-        when(apiClient.getEmployeeById("1")).thenReturn(Mono.just(employee));
+        when(apiClient.getEmployeeByIdUncached("1")).thenReturn(Mono.just(employee));
         when(apiClient.deleteEmployeeByName(any(ApiDeleteRequestDto.class))).thenReturn(Mono.just(deleteResponse));
 
         String result = employeeService.deleteEmployeeById("1");
 
         assertEquals("Ravindra", result);
-        verify(apiClient, times(1)).getEmployeeById("1");
+        verify(apiClient, times(1)).getEmployeeByIdUncached("1");
         verify(apiClient, times(1)).deleteEmployeeByName(any(ApiDeleteRequestDto.class));
     }
 
     @Test
     void testDeleteEmployeeById_employeeNotFound() {
 
-        when(apiClient.getEmployeeById("nonexistent-id")).thenReturn(Mono.empty());
+        when(apiClient.getEmployeeByIdUncached("nonexistent-id")).thenReturn(Mono.empty());
 
         String result = employeeService.deleteEmployeeById("nonexistent-id");
 
         assertNull(result);
-        verify(apiClient, times(1)).getEmployeeById("nonexistent-id");
+        verify(apiClient, times(1)).getEmployeeByIdUncached("nonexistent-id");
     }
 
     @Test
@@ -160,13 +176,39 @@ class EmployeeServiceTest {
                 new ApiResponse.Employee("1", "Gaurav Soni", 100000, 22, "Developer", "gaurav@example.com");
         ApiResponse.DeleteRecordResponse deleteResponse = new ApiResponse.DeleteRecordResponse("false", "failed");
 
-        when(apiClient.getEmployeeById("1")).thenReturn(Mono.just(employee));
+        when(apiClient.getEmployeeByIdUncached("1")).thenReturn(Mono.just(employee));
         when(apiClient.deleteEmployeeByName(any(ApiDeleteRequestDto.class))).thenReturn(Mono.just(deleteResponse));
 
         String result = employeeService.deleteEmployeeById("1");
 
         assertNull(result);
-        verify(apiClient, times(1)).getEmployeeById("1");
+        verify(apiClient, times(1)).getEmployeeByIdUncached("1");
         verify(apiClient, times(1)).deleteEmployeeByName(any(ApiDeleteRequestDto.class));
     }
+
+    @Test
+    void testGetEmployeesByIds_success() {
+
+        List<String> ids = List.of("2", "1");
+        List<ApiResponse.Employee> employees = List.of(
+                new ApiResponse.Employee("2", "Garrett Winters", 170750, 63, "Accountant", "gwinters@example.com"),
+                new ApiResponse.Employee("1", "Kanchhedi Lal", 100000, 20, "Developer", "kcl@example.com"));
+
+        when(apiClient.getEmployeesByIds(ids)).thenReturn(Mono.just(employees));
+
+        List<ApiResponse.Employee> result = employeeService.getEmployeesByIds(ids);
+
+        assertEquals(employees, result);
+        verify(apiClient, times(1)).getEmployeesByIds(ids);
+    }
+
+    @Test
+    void testGetEmployeesByIds_noneFound() {
+
+        when(apiClient.getEmployeesByIds(List.of("3"))).thenReturn(Mono.empty());
+
+        List<ApiResponse.Employee> result = employeeService.getEmployeesByIds(List.of("3"));
+
+        assertTrue(result.isEmpty());
+    }
 }
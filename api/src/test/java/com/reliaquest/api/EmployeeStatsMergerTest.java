@@ -0,0 +1,72 @@
+package com.reliaquest.api;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.client.EmployeeStatsMerger;
+import com.reliaquest.api.dto.ApiResponse;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import org.junit.jupiter.api.Test;
+
+class EmployeeStatsMergerTest {
+
+    @Test
+    void testMerge_combinesShards() {
+
+        ApiResponse.EmployeeStats first = new ApiResponse.EmployeeStats(
+                2,
+                50000,
+                30,
+                40000,
+                60000,
+                10000,
+                new TreeMap<>(Map.of(40000, 1L, 60000, 1L)),
+                Map.of(),
+                Map.of("Developer", 2L));
+        ApiResponse.EmployeeStats second = new ApiResponse.EmployeeStats(
+                1,
+                200000,
+                60,
+                200000,
+                200000,
+                10000,
+                new TreeMap<>(Map.of(200000, 1L)),
+                Map.of(),
+                Map.of("Developer", 1L, "Manager", 1L));
+
+        ApiResponse.EmployeeStats merged = EmployeeStatsMerger.merge(List.of(first, second));
+
+        assertEquals(3, merged.count());
+        assertEquals(100000, merged.averageSalary(), 0.001);
+        assertEquals(40, merged.averageAge(), 0.001);
+        assertEquals(40000, merged.minSalary());
+        assertEquals(200000, merged.maxSalary());
+        assertEquals(3L, merged.headcountByTitle().get("Developer"));
+        assertEquals(1L, merged.headcountByTitle().get("Manager"));
+        assertEquals(3, merged.salaryHistogram().size());
+        assertEquals(200000, merged.salaryPercentiles().get("p99"));
+    }
+
+    @Test
+    void testMerge_recomputesPercentilesOfSingleShard() {
+
+        ApiResponse.EmployeeStats shard = new ApiResponse.EmployeeStats(
+                2,
+                50000,
+                30,
+                40000,
+                60000,
+                10000,
+                new TreeMap<>(Map.of(40000, 1L, 60000, 1L)),
+                Map.of("p50", 1, "p99", 1),
+                Map.of("Developer", 2L));
+
+        ApiResponse.EmployeeStats merged = EmployeeStatsMerger.merge(List.of(shard));
+
+        assertEquals(2, merged.count());
+        assertEquals(50000, merged.averageSalary(), 0.001);
+        assertEquals(50000, merged.salaryPercentiles().get("p50"));
+        assertEquals(60000, merged.salaryPercentiles().get("p99"));
+    }
+}
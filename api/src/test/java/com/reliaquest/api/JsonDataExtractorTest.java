@@ -0,0 +1,71 @@
+package com.reliaquest.api;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.client.JsonDataExtractor;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import reactor.core.publisher.Flux;
+
+class JsonDataExtractorTest {
+
+    private static final String FIRST_SHARD = "{\"data\":[{\"id\":\"1\",\"employee_name\":\"Tiger Nixon\","
+            + "\"employee_salary\":320800,\"nested\":{\"data\":[1]}},{\"id\":\"2\",\"employee_name\":\"Bill Bob\","
+            + "\"employee_salary\":89750}],\"status\":\"Successfully processed request.\"}";
+
+    private static final String SECOND_SHARD =
+            "{\"status\":\"Successfully processed request.\",\"data\":[{\"id\":\"3\",\"employee_name\":\"Jill\"}]}";
+
+    @Test
+    void testExtractData_singleEnvelopeSplitAcrossBuffers() {
+
+        String result = join(JsonDataExtractor.extractData(split(
+                "{\"data\":{\"id\":\"5\",\"employee_name\":\"Bill Bob\",\"employee_salary\":89750},\"status\":\"ok\"}",
+                7)));
+
+        assertEquals("{\"id\":\"5\",\"employee_name\":\"Bill Bob\",\"employee_salary\":89750}", result);
+    }
+
+    @Test
+    void testMergeDataArrays_concatenatesShardsInOrder() {
+
+        String result = join(JsonDataExtractor.mergeDataArrays(List.of(split(FIRST_SHARD, 5), split(SECOND_SHARD, 3))));
+
+        assertEquals(
+                "[{\"id\":\"1\",\"employee_name\":\"Tiger Nixon\",\"employee_salary\":320800,\"nested\":{\"data\":[1]}},"
+                        + "{\"id\":\"2\",\"employee_name\":\"Bill Bob\",\"employee_salary\":89750},"
+                        + "{\"id\":\"3\",\"employee_name\":\"Jill\"}]",
+                result);
+    }
+
+    @Test
+    void testMergeDataArrays_emptyData() {
+
+        String result = join(JsonDataExtractor.mergeDataArrays(List.of(split("{\"data\":[],\"status\":\"ok\"}", 4))));
+
+        assertEquals("[]", result);
+    }
+
+    private static Flux<DataBuffer> split(String json, int chunkSize) {
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+        List<DataBuffer> chunks = new ArrayList<>();
+        for (int offset = 0; offset < bytes.length; offset += chunkSize) {
+            int length = Math.min(chunkSize, bytes.length - offset);
+            byte[] chunk = new byte[length];
+            System.arraycopy(bytes, offset, chunk, 0, length);
+            chunks.add(DefaultDataBufferFactory.sharedInstance.wrap(chunk));
+        }
+        return Flux.fromIterable(chunks);
+    }
+
+    private static String join(Flux<DataBuffer> body) {
+        DataBuffer joined = DataBufferUtils.join(body).block();
+        assertNotNull(joined);
+        return joined.toString(StandardCharsets.UTF_8);
+    }
+}
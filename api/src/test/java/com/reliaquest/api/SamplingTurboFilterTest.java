@@ -0,0 +1,56 @@
+package com.reliaquest.api;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.core.spi.FilterReply;
+import com.reliaquest.api.controller.EmployeeController;
+import com.reliaquest.api.controller.EmployeeControllerAdvice;
+import com.reliaquest.api.logging.SamplingTurboFilter;
+import com.reliaquest.api.service.EmployeeService;
+import com.reliaquest.api.startup.StartupTimer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class SamplingTurboFilterTest {
+
+    private final LoggerContext context = new LoggerContext();
+
+    private SamplingTurboFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        filter = new SamplingTurboFilter();
+        filter.setRate(10);
+        filter.addLoggerName(EmployeeController.class.getName() + ",\n  " + EmployeeService.class.getName());
+        filter.start();
+    }
+
+    private int kept(Class<?> source, Level level) {
+        int kept = 0;
+        for (int i = 0; i < 100; i++) {
+            if (filter.decide(null, context.getLogger(source), level, "message", null, null) == FilterReply.NEUTRAL) {
+                kept++;
+            }
+        }
+        return kept;
+    }
+
+    @Test
+    void testDecide_samplesInfoOfListedLoggers() {
+
+        assertEquals(10, kept(EmployeeController.class, Level.INFO));
+        assertEquals(10, kept(EmployeeService.class, Level.INFO));
+        assertEquals(180, filter.getSampledOutCount());
+    }
+
+    @Test
+    void testDecide_keepsWarningsAndOtherLoggers() {
+
+        assertEquals(100, kept(EmployeeService.class, Level.WARN));
+        assertEquals(100, kept(StartupTimer.class, Level.INFO));
+        assertEquals(100, kept(EmployeeControllerAdvice.class, Level.INFO));
+        assertEquals(0, filter.getSampledOutCount());
+    }
+}
@@ -0,0 +1,96 @@
+package com.reliaquest.api;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.client.Upstream;
+import com.reliaquest.api.client.UpstreamRegistry;
+import com.reliaquest.api.exception.ClientException;
+import com.reliaquest.api.exception.ResourceNotFoundException;
+import com.reliaquest.api.exception.ServerException;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+class UpstreamRegistryTest {
+
+    private UpstreamRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        registry = new UpstreamRegistry(
+                WebClient.builder(),
+                List.of("http://localhost:8112/", "http://localhost:8113/", "http://localhost:8114/"),
+                100,
+                30);
+    }
+
+    @Test
+    void testRoute_isStableAndCoversAllUpstreams() {
+
+        List<Upstream> first = registry.route("Tiger Nixon");
+        List<Upstream> second = registry.route("Tiger Nixon");
+
+        assertEquals(first, second);
+        assertEquals(3, first.size());
+        assertEquals(registry.owner("Tiger Nixon"), first.get(0));
+        assertEquals(3, new HashSet<>(first).size());
+    }
+
+    @Test
+    void testRoute_spreadsKeysOverUpstreams() {
+
+        Set<Upstream> owners = new HashSet<>();
+        for (int i = 0; i < 100; i++) {
+            owners.add(registry.owner("employee-" + i));
+        }
+
+        assertEquals(3, owners.size());
+    }
+
+    @Test
+    void testRoute_failsOverWhenOwnerIsDown() {
+
+        Upstream owner = registry.owner("Tiger Nixon");
+        owner.markDown(new ServerException(500, "down"));
+
+        List<Upstream> route = registry.route("Tiger Nixon");
+
+        assertNotEquals(owner, route.get(0));
+        assertEquals(owner, route.get(route.size() - 1));
+        assertFalse(registry.available().contains(owner));
+    }
+
+    @Test
+    void testAvailable_returnsAllWhenEveryUpstreamIsDown() {
+
+        registry.all().forEach(upstream -> upstream.markDown(new ServerException(500, "down")));
+
+        assertEquals(3, registry.available().size());
+    }
+
+    @Test
+    void testIsFailure() {
+
+        assertTrue(UpstreamRegistry.isFailure(new ServerException(503, "unavailable")));
+        assertFalse(UpstreamRegistry.isFailure(new IllegalArgumentException("bad input")));
+    }
+
+    @Test
+    void testIsShardFailure_includesClientErrorsButNotNotFound() {
+
+        WebClientResponseException tooManyRequests = WebClientResponseException.create(
+                HttpStatus.TOO_MANY_REQUESTS, "Too Many Requests", HttpHeaders.EMPTY, new byte[0], null, null);
+
+        assertTrue(UpstreamRegistry.isShardFailure(tooManyRequests));
+        assertFalse(UpstreamRegistry.isFailure(tooManyRequests));
+        assertTrue(UpstreamRegistry.isShardFailure(new ClientException(400, "bad request")));
+        assertTrue(UpstreamRegistry.isShardFailure(new ServerException(503, "unavailable")));
+        assertFalse(UpstreamRegistry.isShardFailure(new ResourceNotFoundException(404, "not found")));
+    }
+}
@@ -0,0 +1,54 @@
+package com.reliaquest.server.config;
+
+import com.reliaquest.server.model.FaultProfile;
+import com.reliaquest.server.web.EmployeeEndpoint;
+import com.reliaquest.server.web.FaultInjector;
+import jakarta.validation.Validator;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+@Slf4j
+@Configuration
+public class FaultInjectionConfiguration {
+
+    /*
+     * Initial faults come from mock.faults.endpoints.<endpoint> and can be changed later through /admin/faults. Without
+     * mock.faults.seed every start draws a different fault sequence.
+     */
+    @Bean
+    public FaultInjector faultInjector(
+            Environment environment, Validator validator, @Value("${mock.faults.seed:#{null}}") Long seed) {
+        final var profiles = new EnumMap<EmployeeEndpoint, FaultProfile>(EmployeeEndpoint.class);
+        final var configured = Binder.get(environment)
+                .bind("mock.faults.endpoints", Bindable.mapOf(String.class, FaultProfile.class))
+                .orElse(Map.of());
+        for (final var entry : configured.entrySet()) {
+            final var endpoint = EmployeeEndpoint.fromKey(entry.getKey())
+                    .orElseThrow(() -> new IllegalArgumentException(
+                            "Unknown endpoint in mock.faults.endpoints: " + entry.getKey()));
+            final var violations = validator.validate(entry.getValue());
+            if (!violations.isEmpty()) {
+                throw new IllegalArgumentException("Invalid mock.faults.endpoints.%s: %s"
+                        .formatted(
+                                entry.getKey(),
+                                violations.stream()
+                                        .map(violation -> violation.getPropertyPath() + " " + violation.getMessage())
+                                        .sorted()
+                                        .collect(Collectors.joining(", "))));
+            }
+            profiles.put(endpoint, entry.getValue());
+        }
+        if (!profiles.isEmpty()) {
+            log.info("Injecting faults into {}", profiles.keySet());
+        }
+        return new FaultInjector(profiles, seed != null ? seed : System.nanoTime());
+    }
+}
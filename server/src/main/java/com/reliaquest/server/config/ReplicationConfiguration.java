@@ -0,0 +1,13 @@
+package com.reliaquest.server.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/*
+ * Replicas poll the primary on a schedule.
+ */
+@Configuration
+@EnableScheduling
+@ConditionalOnProperty(name = "mock.replication.role", havingValue = "replica")
+public class ReplicationConfiguration {}
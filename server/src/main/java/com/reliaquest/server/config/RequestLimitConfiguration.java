@@ -0,0 +1,52 @@
+package com.reliaquest.server.config;
+
+import com.reliaquest.server.web.EmployeeEndpoint;
+import com.reliaquest.server.web.QuotaRequestLimiter;
+import com.reliaquest.server.web.RandomRequestLimiter;
+import com.reliaquest.server.web.RequestLimiter;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Random;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+@Slf4j
+@Configuration
+public class RequestLimitConfiguration {
+
+    /*
+     * mock.rate-limit.mode selects the limiter: random (the original global limit, reproducible with
+     * mock.rate-limit.seed), quota (per endpoint and client, see EmployeeEndpoint) or off.
+     */
+    @Bean
+    public RequestLimiter requestLimiter(
+            Environment environment,
+            @Value("${mock.rate-limit.mode:random}") String mode,
+            @Value("${mock.rate-limit.seed:#{null}}") Long seed,
+            @Value("${mock.rate-limit.window-seconds:10}") long windowSeconds) {
+        final var clock = Clock.systemUTC();
+        return switch (mode.toLowerCase(Locale.ROOT)) {
+            case "off" -> RequestLimiter.unlimited();
+            case "quota" -> {
+                final var quotas = new EnumMap<EmployeeEndpoint, Integer>(EmployeeEndpoint.class);
+                for (final var endpoint : EmployeeEndpoint.values()) {
+                    quotas.put(
+                            endpoint,
+                            environment.getProperty(
+                                    "mock.rate-limit.quota." + endpoint.key(),
+                                    Integer.class,
+                                    endpoint.getDefaultQuota()));
+                }
+                log.info("Rate limiting with quotas {} per {}s window.", quotas, windowSeconds);
+                yield new QuotaRequestLimiter(quotas, Duration.ofSeconds(windowSeconds), clock);
+            }
+            case "random" -> new RandomRequestLimiter(seed != null ? new Random(seed) : new Random(), clock);
+            default -> throw new IllegalArgumentException("Unknown mock.rate-limit.mode: " + mode);
+        };
+    }
+}
@@ -0,0 +1,52 @@
+package com.reliaquest.server.controller;
+
+import com.reliaquest.server.model.BulkImportResult;
+import com.reliaquest.server.model.Response;
+import com.reliaquest.server.service.EmployeeBulkTransfer;
+import java.io.IOException;
+import java.io.InputStream;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+/*
+ * Bulk export and import of the whole store as gzip-compressed NDJSON. Both stream the body, the export from an async
+ * request thread, so neither holds the dataset as one document in memory.
+ */
+@RestController
+@Profile("!reactive")
+@RequestMapping("/api/v1/employee/bulk")
+@RequiredArgsConstructor
+public class BulkTransferController {
+
+    private final EmployeeBulkTransfer bulkTransfer;
+
+    @GetMapping()
+    public ResponseEntity<StreamingResponseBody> exportEmployees() {
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(EmployeeBulkTransfer.CONTENT_TYPE))
+                .header(
+                        HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment()
+                                .filename(EmployeeBulkTransfer.FILE_NAME)
+                                .build()
+                                .toString())
+                .body(bulkTransfer::export);
+    }
+
+    @PostMapping()
+    public Response<BulkImportResult> importEmployees(
+            @RequestParam(name = "replace", defaultValue = "false") boolean replace, InputStream body)
+            throws IOException {
+        return Response.handledWith(bulkTransfer.importFrom(body, replace));
+    }
+}
@@ -0,0 +1,83 @@
+package com.reliaquest.server.controller;
+
+import com.reliaquest.server.model.FaultProfile;
+import com.reliaquest.server.model.FaultSettings;
+import com.reliaquest.server.model.Response;
+import com.reliaquest.server.web.EmployeeEndpoint;
+import com.reliaquest.server.web.FaultInjector;
+import jakarta.validation.Valid;
+import java.util.LinkedHashMap;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/*
+ * Runtime control of fault injection, served in both the servlet and the reactive mode. Endpoints are addressed by
+ * their EmployeeEndpoint key, or "all".
+ */
+@RestController
+@RequestMapping("/admin/faults")
+@RequiredArgsConstructor
+public class FaultAdminController {
+
+    private static final String ALL = "all";
+
+    private final FaultInjector faultInjector;
+
+    @GetMapping()
+    public Response<FaultSettings> getFaults() {
+        return Response.handledWith(settings());
+    }
+
+    @PutMapping("/{endpoint}")
+    public ResponseEntity<Response<FaultSettings>> setFaults(
+            @PathVariable("endpoint") String endpoint, @Valid @RequestBody FaultProfile profile) {
+        return update(endpoint, profile);
+    }
+
+    @DeleteMapping("/{endpoint}")
+    public ResponseEntity<Response<FaultSettings>> clearFaults(@PathVariable("endpoint") String endpoint) {
+        return update(endpoint, null);
+    }
+
+    @DeleteMapping()
+    public Response<FaultSettings> clearAllFaults() {
+        faultInjector.clear();
+        return Response.handledWith(settings());
+    }
+
+    @PutMapping("/seed/{seed}")
+    public Response<FaultSettings> reseed(@PathVariable("seed") long seed) {
+        faultInjector.reseed(seed);
+        return Response.handledWith(settings());
+    }
+
+    private ResponseEntity<Response<FaultSettings>> update(String endpoint, FaultProfile profile) {
+        if (ALL.equalsIgnoreCase(endpoint)) {
+            for (final var each : EmployeeEndpoint.values()) {
+                faultInjector.setProfile(each, profile);
+            }
+            return ResponseEntity.ok(Response.handledWith(settings()));
+        }
+        return EmployeeEndpoint.fromKey(endpoint)
+                .map(known -> {
+                    faultInjector.setProfile(known, profile);
+                    return ResponseEntity.ok(Response.handledWith(settings()));
+                })
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.NOT_FOUND)
+                        .body(Response.error("Unknown endpoint " + endpoint)));
+    }
+
+    private FaultSettings settings() {
+        final var endpoints = new LinkedHashMap<String, FaultProfile>();
+        faultInjector.getProfiles().forEach((endpoint, profile) -> endpoints.put(endpoint.key(), profile));
+        return new FaultSettings(faultInjector.getSeed(), endpoints);
+    }
+}
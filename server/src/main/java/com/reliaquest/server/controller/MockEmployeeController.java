@@ -1,7 +1,10 @@
 package com.reliaquest.server.controller;
 
+import com.reliaquest.server.model.BatchEmployeeInput;
 import com.reliaquest.server.model.CreateMockEmployeeInput;
 import com.reliaquest.server.model.DeleteMockEmployeeInput;
+import com.reliaquest.server.model.EmployeeQuery;
+import com.reliaquest.server.model.EmployeeStats;
 import com.reliaquest.server.model.MockEmployee;
 import com.reliaquest.server.model.Response;
 import com.reliaquest.server.service.MockEmployeeService;
@@ -9,6 +12,7 @@ import jakarta.validation.Valid;
 import java.util.List;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -20,6 +24,7 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
+@Profile("!reactive")
 @RequestMapping("/api/v1/employee")
 @RequiredArgsConstructor
 public class MockEmployeeController {
@@ -27,8 +32,13 @@ public class MockEmployeeController {
     private final MockEmployeeService mockEmployeeService;
 
     @GetMapping()
-    public Response<List<MockEmployee>> getEmployees() {
-        return Response.handledWith(mockEmployeeService.getMockEmployees());
+    public Response<List<MockEmployee>> getEmployees(@Valid EmployeeQuery query) {
+        return Response.handledWith(mockEmployeeService.query(query));
+    }
+
+    @GetMapping("/stats")
+    public Response<EmployeeStats> getStats() {
+        return Response.handledWith(mockEmployeeService.getStats());
     }
 
     @GetMapping("/{id}")
@@ -39,6 +49,11 @@ public class MockEmployeeController {
                 .orElseGet(() -> ResponseEntity.status(HttpStatus.NOT_FOUND).body(Response.handled()));
     }
 
+    @PostMapping("/batch")
+    public Response<List<MockEmployee>> getEmployeesByIds(@Valid @RequestBody BatchEmployeeInput input) {
+        return Response.handledWith(mockEmployeeService.findAllById(input.getIds()));
+    }
+
     @PostMapping()
     public Response<MockEmployee> createEmployee(@Valid @RequestBody CreateMockEmployeeInput input) {
         return Response.handledWith(mockEmployeeService.create(input));
@@ -1,8 +1,12 @@
 package com.reliaquest.server.controller;
 
 import com.reliaquest.server.model.Response;
+import com.reliaquest.server.service.InvalidImportException;
+import com.reliaquest.server.service.ReadOnlyReplicaException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.validation.BindException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 
@@ -10,6 +14,22 @@ import org.springframework.web.bind.annotation.ExceptionHandler;
 @ControllerAdvice
 public class MockEmployeeControllerAdvice {
 
+    @ExceptionHandler
+    protected ResponseEntity<?> handleReplicaWrite(ReadOnlyReplicaException ex) {
+        return ResponseEntity.status(HttpStatus.METHOD_NOT_ALLOWED).body(Response.error(ex.getMessage()));
+    }
+
+    // Query parameters and request bodies that fail binding or validation are client errors
+    @ExceptionHandler
+    protected ResponseEntity<?> handleInvalidInput(BindException ex) {
+        return ResponseEntity.badRequest().body(Response.error(ex.getMessage()));
+    }
+
+    @ExceptionHandler
+    protected ResponseEntity<?> handleInvalidImport(InvalidImportException ex) {
+        return ResponseEntity.badRequest().body(Response.error(ex.getMessage()));
+    }
+
     @ExceptionHandler
     protected ResponseEntity<?> handleException(Throwable ex) {
         log.error("Error handling web request.", ex);
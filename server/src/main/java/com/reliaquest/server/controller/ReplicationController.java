@@ -0,0 +1,59 @@
+package com.reliaquest.server.controller;
+
+import com.reliaquest.server.model.ReplicationBatch;
+import com.reliaquest.server.model.ReplicationSnapshot;
+import com.reliaquest.server.model.ReplicationStatus;
+import com.reliaquest.server.model.Response;
+import com.reliaquest.server.service.MockEmployeeService;
+import com.reliaquest.server.service.ReplicaSynchronizer;
+import com.reliaquest.server.service.ReplicationLog;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/*
+ * Replication feed, served by the primary and by replicas alike. Not rate limited or faulted.
+ */
+@RestController
+@RequestMapping("/replication")
+@RequiredArgsConstructor
+public class ReplicationController {
+
+    private final MockEmployeeService mockEmployeeService;
+
+    private final ReplicationLog replicationLog;
+
+    private final ObjectProvider<ReplicaSynchronizer> replicaSynchronizer;
+
+    @GetMapping("/snapshot")
+    public Response<ReplicationSnapshot> getSnapshot() {
+        return Response.handledWith(mockEmployeeService.snapshot());
+    }
+
+    @GetMapping("/log")
+    public Response<ReplicationBatch> getLog(
+            @RequestParam("epoch") String epoch,
+            @RequestParam("after") long after,
+            @RequestParam(name = "limit", defaultValue = "1000") int limit) {
+        final int bounded = Math.min(Math.max(1, limit), replicationLog.getCapacity());
+        return Response.handledWith(replicationLog.since(epoch, after, bounded));
+    }
+
+    @GetMapping("/status")
+    public Response<ReplicationStatus> getStatus() {
+        final var replica = replicaSynchronizer.getIfAvailable();
+        if (replica != null) {
+            return Response.handledWith(replica.status());
+        }
+        return Response.handledWith(new ReplicationStatus(
+                replicationLog.getRole(),
+                replicationLog.getEpoch(),
+                replicationLog.getLastSequence(),
+                null,
+                null,
+                null));
+    }
+}
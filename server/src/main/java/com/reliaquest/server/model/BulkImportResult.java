@@ -0,0 +1,7 @@
+package com.reliaquest.server.model;
+
+/*
+ * Outcome of a bulk import: employees read from the body, how many were added and how many were skipped because
+ * their id already existed.
+ */
+public record BulkImportResult(long read, long imported, long skipped, long durationMillis) {}
@@ -0,0 +1,65 @@
+package com.reliaquest.server.model;
+
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
+import java.util.Locale;
+import lombok.Data;
+
+/*
+ * Optional filters for listing employees, bound from query parameters. ageRange is inclusive ("20-40"), sort is a
+ * field optionally followed by a direction ("salary,desc").
+ */
+@Data
+public class EmployeeQuery {
+
+    // Ages are at most three digits, so the bounds always parse as an int
+    private static final String AGE_RANGE = "\\d{1,3}-\\d{1,3}";
+
+    @PositiveOrZero private Integer minSalary;
+
+    @PositiveOrZero private Integer maxSalary;
+
+    private String title;
+
+    @Pattern(regexp = AGE_RANGE)
+    private String ageRange;
+
+    @Pattern(regexp = "(?i)(salary|age|name)(,(asc|desc))?")
+    private String sort;
+
+    @Positive private Integer limit;
+
+    public boolean isEmpty() {
+        return minSalary == null
+                && maxSalary == null
+                && title == null
+                && ageRange == null
+                && sort == null
+                && limit == null;
+    }
+
+    public int minSalaryOrDefault() {
+        return minSalary != null ? minSalary : Integer.MIN_VALUE;
+    }
+
+    public int maxSalaryOrDefault() {
+        return maxSalary != null ? maxSalary : Integer.MAX_VALUE;
+    }
+
+    public int minAge() {
+        return ageRange != null ? Integer.parseInt(ageRange.substring(0, ageRange.indexOf('-'))) : Integer.MIN_VALUE;
+    }
+
+    public int maxAge() {
+        return ageRange != null ? Integer.parseInt(ageRange.substring(ageRange.indexOf('-') + 1)) : Integer.MAX_VALUE;
+    }
+
+    public String sortField() {
+        return sort != null ? sort.split(",")[0].toLowerCase(Locale.ROOT) : null;
+    }
+
+    public boolean isDescending() {
+        return sort != null && sort.toLowerCase(Locale.ROOT).endsWith(",desc");
+    }
+}
@@ -0,0 +1,19 @@
+package com.reliaquest.server.model;
+
+import java.util.Map;
+import java.util.SortedMap;
+
+/**
+ * Aggregates over the current employees. The salary histogram maps the lower bound of each bucket to its headcount, so
+ * callers holding several shards can merge histograms and derive their own percentiles.
+ */
+public record EmployeeStats(
+        long count,
+        double averageSalary,
+        double averageAge,
+        Integer minSalary,
+        Integer maxSalary,
+        int salaryBucketWidth,
+        SortedMap<Integer, Long> salaryHistogram,
+        Map<String, Integer> salaryPercentiles,
+        Map<String, Long> headcountByTitle) {}
@@ -0,0 +1,44 @@
+package com.reliaquest.server.model;
+
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
+import lombok.Data;
+
+/*
+ * Faults injected into one endpoint. Latency follows a piecewise linear distribution through the given percentiles
+ * (topping out at latencyMaxMs) plus uniform jitter. An error starts a burst of errorBurstLength failed requests.
+ * A reset sends part of a response and drops the connection, and bytesPerSecond throttles the response body.
+ */
+@Data
+public class FaultProfile {
+
+    @PositiveOrZero private int latencyP50Ms;
+
+    @PositiveOrZero private int latencyP90Ms;
+
+    @PositiveOrZero private int latencyP99Ms;
+
+    @PositiveOrZero private int latencyMaxMs;
+
+    @PositiveOrZero private int jitterMs;
+
+    @DecimalMin("0.0")
+    @DecimalMax("1.0")
+    private double errorRate;
+
+    @Min(400)
+    @Max(599)
+    private int errorStatus = 503;
+
+    @Positive private int errorBurstLength = 1;
+
+    @DecimalMin("0.0")
+    @DecimalMax("1.0")
+    private double resetRate;
+
+    @PositiveOrZero private long bytesPerSecond;
+}
@@ -0,0 +1,8 @@
+package com.reliaquest.server.model;
+
+import java.util.Map;
+
+/*
+ * Current fault injection state: the seed of the fault sequence and the profile of each faulted endpoint.
+ */
+public record FaultSettings(long seed, Map<String, FaultProfile> endpoints) {}
@@ -0,0 +1,10 @@
+package com.reliaquest.server.model;
+
+import java.util.List;
+
+/*
+ * Log entries after a replica's position. snapshotRequired is set when the position is no longer in the log, so the
+ * replica has to start over from a snapshot.
+ */
+public record ReplicationBatch(
+        String epoch, long lastSequence, boolean snapshotRequired, List<ReplicationEvent> events) {}
@@ -0,0 +1,12 @@
+package com.reliaquest.server.model;
+
+/*
+ * One write in the primary's replication log. Sequences start at 1 and have no gaps within an epoch.
+ */
+public record ReplicationEvent(long sequence, Operation operation, MockEmployee employee, long timestampMillis) {
+
+    public enum Operation {
+        CREATE,
+        DELETE
+    }
+}
@@ -0,0 +1,9 @@
+package com.reliaquest.server.model;
+
+import java.util.List;
+
+/*
+ * All employees as of the given log sequence. The epoch changes whenever the primary restarts, since its sequences
+ * start over.
+ */
+public record ReplicationSnapshot(String epoch, long sequence, List<MockEmployee> employees) {}
@@ -0,0 +1,11 @@
+package com.reliaquest.server.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/*
+ * Replication position of this instance. The primary fields and lag are only reported by replicas; lagSeconds is the
+ * time since the replica last saw itself caught up with the primary.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record ReplicationStatus(
+        String role, String epoch, long sequence, Long primarySequence, Long lagEvents, Double lagSeconds) {}
@@ -0,0 +1,78 @@
+package com.reliaquest.server.reactive;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.stream.Stream;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import reactor.core.publisher.Flux;
+
+/*
+ * Blocking view of a request body for code that reads an InputStream, so it must only be read on a thread that may
+ * block, such as the bounded elastic scheduler. At most `prefetch` buffers are requested ahead of the reader. An error
+ * in the body is thrown from read, so a broken upload never looks like a complete one. Closing the stream releases the
+ * buffer being read and cancels the rest of the body.
+ */
+final class BodyInputStream extends InputStream {
+
+    private final Stream<DataBuffer> buffers;
+    private final Iterator<DataBuffer> iterator;
+    private DataBuffer current;
+
+    BodyInputStream(Flux<DataBuffer> body, int prefetch) {
+        this.buffers = body.toStream(prefetch);
+        this.iterator = buffers.iterator();
+    }
+
+    @Override
+    public int read() throws IOException {
+        final var buffer = next();
+        return buffer != null ? buffer.read() & 0xff : -1;
+    }
+
+    @Override
+    public int read(byte[] bytes, int offset, int length) throws IOException {
+        Objects.checkFromIndexSize(offset, length, bytes.length);
+        if (length == 0) {
+            return 0;
+        }
+        final var buffer = next();
+        if (buffer == null) {
+            return -1;
+        }
+        final int count = Math.min(length, buffer.readableByteCount());
+        buffer.read(bytes, offset, count);
+        return count;
+    }
+
+    @Override
+    public void close() {
+        releaseCurrent();
+        buffers.close();
+    }
+
+    // The buffer with bytes left to read, or null at the end of the body
+    private DataBuffer next() throws IOException {
+        while (current == null || current.readableByteCount() == 0) {
+            releaseCurrent();
+            try {
+                if (!iterator.hasNext()) {
+                    return null;
+                }
+                current = iterator.next();
+            } catch (RuntimeException e) {
+                throw new IOException("Failed to read the request body", e);
+            }
+        }
+        return current;
+    }
+
+    private void releaseCurrent() {
+        if (current != null) {
+            DataBufferUtils.release(current);
+            current = null;
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package com.reliaquest.server.reactive;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.server.model.Response;
+import com.reliaquest.server.web.FaultInjector;
+import com.reliaquest.server.web.FaultPlan;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.reactivestreams.Publisher;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.Ordered;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/*
+ * WebFilter adapter for the FaultInjector. Delays are timers on the event loop rather than blocked threads. Runs
+ * before the rate limiter, like the servlet filter does before the interceptor.
+ */
+@Component
+@Profile("reactive")
+@RequiredArgsConstructor
+public class FaultInjectionWebFilter implements WebFilter, Ordered {
+
+    private final FaultInjector faultInjector;
+
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        final var request = exchange.getRequest();
+        final var path = request.getPath().pathWithinApplication().value();
+        if (!path.startsWith("/api/")) {
+            return chain.filter(exchange);
+        }
+        final var plan = faultInjector.plan(request.getMethod().name(), path);
+        if (plan.isNone()) {
+            return chain.filter(exchange);
+        }
+        final Mono<Void> delay = plan.delayMillis() > 0
+                ? Mono.delay(Duration.ofMillis(plan.delayMillis())).then()
+                : Mono.empty();
+        return delay.then(Mono.defer(() -> {
+            if (plan.reset()) {
+                return reset(exchange.getResponse());
+            }
+            if (plan.isError()) {
+                return error(exchange.getResponse(), plan.errorStatus());
+            }
+            if (plan.isThrottled()) {
+                return chain.filter(exchange.mutate()
+                        .response(new ThrottledResponse(exchange.getResponse(), plan.bytesPerSecond()))
+                        .build());
+            }
+            return chain.filter(exchange);
+        }));
+    }
+
+    // The promised length is never delivered and the failing body makes Netty close the connection
+    private static Mono<Void> reset(ServerHttpResponse response) {
+        final var prefix = FaultPlan.resetPrefix();
+        response.setStatusCode(HttpStatus.OK);
+        response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+        response.getHeaders().setContentLength(prefix.length * 4L);
+        return response.writeWith(Flux.just(response.bufferFactory().wrap(prefix))
+                .concatWith(Mono.error(new IllegalStateException("Injected connection reset"))));
+    }
+
+    private Mono<Void> error(ServerHttpResponse response, int status) {
+        try {
+            final var body = objectMapper.writeValueAsBytes(Response.error(FaultPlan.ERROR_MESSAGE));
+            response.setStatusCode(HttpStatusCode.valueOf(status));
+            response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+            return response.writeWith(Mono.just(response.bufferFactory().wrap(body)));
+        } catch (JsonProcessingException e) {
+            return Mono.error(e);
+        }
+    }
+
+    /*
+     * Re-slices the body into chunks of a tenth of the rate and flushes each one after the time it should take to
+     * send.
+     */
+    private static final class ThrottledResponse extends ServerHttpResponseDecorator {
+
+        private final long bytesPerSecond;
+
+        private final int sliceSize;
+
+        ThrottledResponse(ServerHttpResponse delegate, long bytesPerSecond) {
+            super(delegate);
+            this.bytesPerSecond = bytesPerSecond;
+            this.sliceSize = (int) Math.min(Integer.MAX_VALUE, Math.max(1, bytesPerSecond / 10));
+        }
+
+        @Override
+        public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+            return super.writeAndFlushWith(Flux.from(body)
+                    .concatMapIterable(this::slice)
+                    .delayUntil(this::pause)
+                    .doOnDiscard(DataBuffer.class, DataBufferUtils::release)
+                    .map(Mono::just));
+        }
+
+        private Mono<Long> pause(DataBuffer slice) {
+            return Mono.delay(Duration.ofMillis(slice.readableByteCount() * 1000L / bytesPerSecond));
+        }
+
+        private List<DataBuffer> slice(DataBuffer buffer) {
+            final var slices = new ArrayList<DataBuffer>();
+            try {
+                while (buffer.readableByteCount() > 0) {
+                    final var bytes = new byte[Math.min(sliceSize, buffer.readableByteCount())];
+                    buffer.read(bytes);
+                    slices.add(bufferFactory().wrap(bytes));
+                }
+            } finally {
+                DataBufferUtils.release(buffer);
+            }
+            return slices;
+        }
+    }
+}
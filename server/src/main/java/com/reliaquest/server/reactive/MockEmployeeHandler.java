@@ -0,0 +1,153 @@
+package com.reliaquest.server.reactive;
+
+import com.reliaquest.server.model.BatchEmployeeInput;
+import com.reliaquest.server.model.CreateMockEmployeeInput;
+import com.reliaquest.server.model.DeleteMockEmployeeInput;
+import com.reliaquest.server.model.EmployeeQuery;
+import com.reliaquest.server.model.Response;
+import com.reliaquest.server.service.EmployeeBulkTransfer;
+import com.reliaquest.server.service.MockEmployeeService;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.ConstraintViolationException;
+import jakarta.validation.Validator;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Set;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.BodyInserters;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import org.springframework.web.server.ServerWebInputException;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/*
+ * Functional counterpart of MockEmployeeController for the reactive profile. The service works on in-memory indexes
+ * behind short-lived locks, so it is called directly on the event loop; only the bulk transfers, which block on
+ * stream I/O, run on the bounded elastic scheduler. Bean validation is applied by hand since there is no @Valid
+ * argument resolution for handler functions.
+ */
+@Component
+@Profile("reactive")
+@RequiredArgsConstructor
+public class MockEmployeeHandler {
+
+    // Body buffers requested ahead of the import thread
+    private static final int IMPORT_DEMAND = 16;
+
+    private final MockEmployeeService mockEmployeeService;
+
+    private final EmployeeBulkTransfer bulkTransfer;
+
+    private final Validator validator;
+
+    public Mono<ServerResponse> getEmployees(ServerRequest request) {
+        return Mono.fromCallable(() -> validate(toQuery(request)))
+                .flatMap(query -> ok(mockEmployeeService.query(query)));
+    }
+
+    public Mono<ServerResponse> getStats(ServerRequest request) {
+        return ok(mockEmployeeService.getStats());
+    }
+
+    public Mono<ServerResponse> getEmployee(ServerRequest request) {
+        return Mono.fromCallable(() -> UUID.fromString(request.pathVariable("id")))
+                .flatMap(uuid -> mockEmployeeService
+                        .findById(uuid)
+                        .map(this::ok)
+                        .orElseGet(() -> ServerResponse.status(HttpStatus.NOT_FOUND)
+                                .bodyValue(Response.handled())));
+    }
+
+    public Mono<ServerResponse> getEmployeesByIds(ServerRequest request) {
+        return request.bodyToMono(BatchEmployeeInput.class)
+                .map(this::validate)
+                .flatMap(input -> ok(mockEmployeeService.findAllById(input.getIds())));
+    }
+
+    public Mono<ServerResponse> createEmployee(ServerRequest request) {
+        return request.bodyToMono(CreateMockEmployeeInput.class)
+                .map(this::validate)
+                .flatMap(input -> ok(mockEmployeeService.create(input)));
+    }
+
+    public Mono<ServerResponse> deleteEmployee(ServerRequest request) {
+        return request.bodyToMono(DeleteMockEmployeeInput.class)
+                .map(this::validate)
+                .flatMap(input -> ok(mockEmployeeService.delete(input)));
+    }
+
+    public Mono<ServerResponse> exportEmployees(ServerRequest request) {
+        final var body = DataBufferUtils.outputStreamPublisher(
+                out -> {
+                    try {
+                        bulkTransfer.export(out);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                },
+                request.exchange().getResponse().bufferFactory(),
+                Schedulers.boundedElastic()::schedule);
+        return ServerResponse.ok()
+                .contentType(MediaType.parseMediaType(EmployeeBulkTransfer.CONTENT_TYPE))
+                .header(
+                        HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment()
+                                .filename(EmployeeBulkTransfer.FILE_NAME)
+                                .build()
+                                .toString())
+                .body(BodyInserters.fromDataBuffers(body));
+    }
+
+    public Mono<ServerResponse> importEmployees(ServerRequest request) {
+        final boolean replace = request.queryParam("replace").map(Boolean::parseBoolean).orElse(false);
+        return Mono.fromCallable(() -> {
+                    try (final var body = new BodyInputStream(request.bodyToFlux(DataBuffer.class), IMPORT_DEMAND)) {
+                        return bulkTransfer.importFrom(body, replace);
+                    }
+                })
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(this::ok);
+    }
+
+    private Mono<ServerResponse> ok(Object data) {
+        return ServerResponse.ok().bodyValue(Response.handledWith(data));
+    }
+
+    private <T> T validate(T input) {
+        Set<ConstraintViolation<T>> violations = validator.validate(input);
+        if (!violations.isEmpty()) {
+            throw new ConstraintViolationException(violations);
+        }
+        return input;
+    }
+
+    private static EmployeeQuery toQuery(ServerRequest request) {
+        final var query = new EmployeeQuery();
+        query.setMinSalary(intParam(request, "minSalary"));
+        query.setMaxSalary(intParam(request, "maxSalary"));
+        query.setTitle(request.queryParam("title").orElse(null));
+        query.setAgeRange(request.queryParam("ageRange").orElse(null));
+        query.setSort(request.queryParam("sort").orElse(null));
+        query.setLimit(intParam(request, "limit"));
+        return query;
+    }
+
+    // A value that does not parse is a client error, as in the servlet binding
+    private static Integer intParam(ServerRequest request, String name) {
+        try {
+            return request.queryParam(name).map(Integer::valueOf).orElse(null);
+        } catch (NumberFormatException e) {
+            throw new ServerWebInputException("Query parameter '%s' must be an integer".formatted(name));
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.reliaquest.server.reactive;
+
+import static org.springframework.web.reactive.function.server.RouterFunctions.route;
+
+import com.reliaquest.server.model.Response;
+import com.reliaquest.server.service.InvalidImportException;
+import com.reliaquest.server.service.ReadOnlyReplicaException;
+import jakarta.validation.ConstraintViolationException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import org.springframework.web.server.ServerWebInputException;
+
+/*
+ * Reactive mode of the mock, enabled with the "reactive" profile: the same endpoints as MockEmployeeController served
+ * by functional routes on Netty. Tomcat stays on the classpath for the servlet mode, so Netty is selected explicitly.
+ */
+@Slf4j
+@Configuration
+@Profile("reactive")
+public class ReactiveServerConfiguration {
+
+    private static final String EMPLOYEE_PATH = "/api/v1/employee";
+
+    @Bean
+    public NettyReactiveWebServerFactory nettyReactiveWebServerFactory() {
+        return new NettyReactiveWebServerFactory();
+    }
+
+    /*
+     * Errors are answered like MockEmployeeControllerAdvice does, so both modes look the same to clients.
+     */
+    @Bean
+    public RouterFunction<ServerResponse> mockEmployeeRoutes(MockEmployeeHandler handler) {
+        return route()
+                .GET(EMPLOYEE_PATH, handler::getEmployees)
+                .GET(EMPLOYEE_PATH + "/stats", handler::getStats)
+                .GET(EMPLOYEE_PATH + "/bulk", handler::exportEmployees)
+                .GET(EMPLOYEE_PATH + "/{id}", handler::getEmployee)
+                .POST(EMPLOYEE_PATH + "/batch", handler::getEmployeesByIds)
+                .POST(EMPLOYEE_PATH + "/bulk", handler::importEmployees)
+                .POST(EMPLOYEE_PATH, handler::createEmployee)
+                .DELETE(EMPLOYEE_PATH, handler::deleteEmployee)
+                .onError(
+                        ReadOnlyReplicaException.class,
+                        (ex, request) -> ServerResponse.status(HttpStatus.METHOD_NOT_ALLOWED)
+                                .bodyValue(Response.error(ex.getMessage())))
+                .onError(
+                        ex -> ex instanceof ServerWebInputException || ex instanceof ConstraintViolationException,
+                        (ex, request) -> ServerResponse.badRequest().bodyValue(Response.error(ex.getMessage())))
+                .onError(
+                        InvalidImportException.class,
+                        (ex, request) -> ServerResponse.badRequest().bodyValue(Response.error(ex.getMessage())))
+                .onError(Throwable.class, (ex, request) -> {
+                    log.error("Error handling web request.", ex);
+                    return ServerResponse.internalServerError().bodyValue(Response.error(ex.getMessage()));
+                })
+                .build();
+    }
+}
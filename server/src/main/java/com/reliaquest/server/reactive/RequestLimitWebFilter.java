@@ -0,0 +1,50 @@
+package com.reliaquest.server.reactive;
+
+import com.reliaquest.server.web.RequestLimitInterceptor;
+import com.reliaquest.server.web.RequestLimiter;
+import java.net.InetSocketAddress;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+/*
+ * WebFilter adapter for the RequestLimiter, limiting the same /api/** paths as RequestLimitInterceptor.
+ */
+@Component
+@Profile("reactive")
+@RequiredArgsConstructor
+public class RequestLimitWebFilter implements WebFilter {
+
+    private final RequestLimiter requestLimiter;
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        final var request = exchange.getRequest();
+        final var path = request.getPath().pathWithinApplication().value();
+        if (!path.startsWith("/api/")) {
+            return chain.filter(exchange);
+        }
+        final var decision = requestLimiter.tryAcquire(request.getMethod().name(), path, clientId(exchange));
+        final var response = exchange.getResponse();
+        decision.writeHeaders(response.getHeaders()::set);
+        if (!decision.allowed()) {
+            response.setStatusCode(HttpStatus.TOO_MANY_REQUESTS);
+            return response.setComplete();
+        }
+        return chain.filter(exchange);
+    }
+
+    private static String clientId(ServerWebExchange exchange) {
+        final var clientId = exchange.getRequest().getHeaders().getFirst(RequestLimitInterceptor.CLIENT_ID_HEADER);
+        if (clientId != null) {
+            return clientId;
+        }
+        InetSocketAddress remoteAddress = exchange.getRequest().getRemoteAddress();
+        return remoteAddress != null ? remoteAddress.getHostString() : "unknown";
+    }
+}
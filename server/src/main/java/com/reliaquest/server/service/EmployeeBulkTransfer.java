@@ -0,0 +1,228 @@
+package com.reliaquest.server.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.reliaquest.server.model.BulkImportResult;
+import com.reliaquest.server.model.CreateMockEmployeeInput;
+import com.reliaquest.server.model.MockEmployee;
+import jakarta.annotation.PreDestroy;
+import jakarta.validation.Validator;
+import java.io.BufferedInputStream;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+/*
+ * Streams the whole employee store out as gzip-compressed NDJSON (one MockEmployee per line) and loads such a stream
+ * back in. Imports decompress and split lines on the calling thread, parse batches of lines on a worker pool and add
+ * the parsed batches to MockEmployeeService in body order. Every row is checked like a create request. At most two
+ * batches per worker are in flight, so memory stays bounded by the batch size however large the body is. Plain,
+ * uncompressed NDJSON is accepted too.
+ */
+@Slf4j
+@Service
+public class EmployeeBulkTransfer {
+
+    public static final String CONTENT_TYPE = "application/gzip";
+    public static final String FILE_NAME = "employees.ndjson.gz";
+
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private final MockEmployeeService mockEmployeeService;
+    private final ReplicationLog replicationLog;
+    private final Validator validator;
+    private final ObjectReader reader;
+    private final ObjectWriter writer;
+    private final int batchSize;
+    private final int maxInFlight;
+    private final ExecutorService parsers;
+
+    public EmployeeBulkTransfer(
+            MockEmployeeService mockEmployeeService,
+            ReplicationLog replicationLog,
+            Validator validator,
+            ObjectMapper objectMapper,
+            @Value("${mock.bulk.batch-size:10000}") int batchSize,
+            @Value("${mock.bulk.parallelism:0}") int parallelism) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("mock.bulk.batch-size must be positive");
+        }
+        final int workers = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        final var threadFactory = new CustomizableThreadFactory("bulk-import-");
+        threadFactory.setDaemon(true);
+        this.mockEmployeeService = mockEmployeeService;
+        this.replicationLog = replicationLog;
+        this.validator = validator;
+        this.reader = objectMapper.readerFor(MockEmployee.class);
+        this.writer = objectMapper.writerFor(MockEmployee.class).withRootValueSeparator("\n");
+        this.batchSize = batchSize;
+        this.maxInFlight = workers * 2;
+        this.parsers = Executors.newFixedThreadPool(workers, threadFactory);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        parsers.shutdownNow();
+    }
+
+    /*
+     * Works on a copy of the list, so the store is not locked while a slow client reads. Closes the stream when done.
+     */
+    public long export(OutputStream out) throws IOException {
+        final var employees = mockEmployeeService.getMockEmployees();
+        try (final var sequence = writer.writeValues(new GZIPOutputStream(out, BUFFER_SIZE))) {
+            for (final var employee : employees) {
+                sequence.write(employee);
+            }
+        }
+        log.info("Exported {} employees", employees.size());
+        return employees.size();
+    }
+
+    /*
+     * With replace, the store is emptied first. A malformed line stops the import with the batches before it already
+     * added, and readers see a partially loaded store while an import runs.
+     */
+    public BulkImportResult importFrom(InputStream in, boolean replace) throws IOException {
+        if (replicationLog.isReplica()) {
+            throw new ReadOnlyReplicaException();
+        }
+        final long started = System.nanoTime();
+        if (replace) {
+            mockEmployeeService.clear();
+        }
+        final Deque<Future<List<MockEmployee>>> pending = new ArrayDeque<>();
+        final var counts = new long[2];
+        try (final var lines =
+                new BufferedReader(new InputStreamReader(decompressed(in), StandardCharsets.UTF_8), BUFFER_SIZE)) {
+            var batch = new ArrayList<String>(batchSize);
+            long firstLine = 1;
+            String line;
+            while ((line = lines.readLine()) != null) {
+                batch.add(line);
+                if (batch.size() == batchSize) {
+                    pending.addLast(submit(batch, firstLine));
+                    firstLine += batch.size();
+                    batch = new ArrayList<>(batchSize);
+                    if (pending.size() >= maxInFlight) {
+                        add(pending.removeFirst(), counts);
+                    }
+                }
+            }
+            if (!batch.isEmpty()) {
+                pending.addLast(submit(batch, firstLine));
+            }
+            while (!pending.isEmpty()) {
+                add(pending.removeFirst(), counts);
+            }
+        } finally {
+            pending.forEach(future -> future.cancel(true));
+            // also after a failed import, since the batches before the failure were added
+            mockEmployeeService.finishImport();
+        }
+        final var result = new BulkImportResult(
+                counts[0],
+                counts[1],
+                counts[0] - counts[1],
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+        log.info("Imported {} of {} employees in {} ms", result.imported(), result.read(), result.durationMillis());
+        return result;
+    }
+
+    private Future<List<MockEmployee>> submit(List<String> lines, long firstLine) {
+        return parsers.submit(() -> parse(lines, firstLine));
+    }
+
+    private List<MockEmployee> parse(List<String> lines, long firstLine) {
+        final var employees = new ArrayList<MockEmployee>(lines.size());
+        for (int i = 0; i < lines.size(); i++) {
+            final var line = lines.get(i);
+            if (line.isBlank()) {
+                continue;
+            }
+            final MockEmployee employee;
+            try {
+                employee = reader.readValue(line);
+            } catch (JsonProcessingException e) {
+                throw new InvalidImportException(
+                        "Line %d is not a valid employee: %s".formatted(firstLine + i, e.getOriginalMessage()));
+            }
+            if (employee == null) {
+                continue;
+            }
+            final var violations = validator.validate(toInput(employee));
+            if (!violations.isEmpty()) {
+                throw new InvalidImportException("Line %d is not a valid employee: %s"
+                        .formatted(
+                                firstLine + i,
+                                violations.stream()
+                                        .map(violation -> violation.getPropertyPath() + " " + violation.getMessage())
+                                        .sorted()
+                                        .collect(Collectors.joining(", "))));
+            }
+            employees.add(employee);
+        }
+        return employees;
+    }
+
+    // counts[0] is the number of employees read, counts[1] the number added
+    private void add(Future<List<MockEmployee>> parsed, long[] counts) throws IOException {
+        final List<MockEmployee> employees;
+        try {
+            employees = parsed.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while importing employees");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+        counts[0] += employees.size();
+        counts[1] += mockEmployeeService.addAll(employees);
+    }
+
+    // Imported rows must pass the same checks as a create request
+    private static CreateMockEmployeeInput toInput(MockEmployee employee) {
+        final var input = new CreateMockEmployeeInput();
+        input.setName(employee.getName());
+        input.setSalary(employee.getSalary());
+        input.setAge(employee.getAge());
+        input.setTitle(employee.getTitle());
+        return input;
+    }
+
+    private static InputStream decompressed(InputStream in) throws IOException {
+        final var buffered = new BufferedInputStream(in, BUFFER_SIZE);
+        buffered.mark(2);
+        final int first = buffered.read();
+        final int second = buffered.read();
+        buffered.reset();
+        final boolean gzip =
+                first == (GZIPInputStream.GZIP_MAGIC & 0xff) && second == (GZIPInputStream.GZIP_MAGIC >> 8);
+        return gzip ? new GZIPInputStream(buffered, BUFFER_SIZE) : buffered;
+    }
+}
@@ -0,0 +1,126 @@
+package com.reliaquest.server.service;
+
+import com.reliaquest.server.model.EmployeeStats;
+import com.reliaquest.server.model.MockEmployee;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import lombok.NonNull;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/*
+ * Incrementally maintained aggregates, updated on every create and delete so a stats request never scans the
+ * employee list.
+ */
+@Component
+public class EmployeeStatistics {
+
+    private static final int[] PERCENTILES = {50, 75, 90, 95, 99};
+
+    private final int bucketWidth;
+
+    private long count;
+    private long salarySum;
+    private long ageSum;
+
+    // salary -> headcount, kept sorted so min and max survive deletes
+    private final TreeMap<Integer, Integer> salaries = new TreeMap<>();
+    private final TreeMap<Integer, Long> histogram = new TreeMap<>();
+    private final Map<String, Long> titles = new HashMap<>();
+
+    public EmployeeStatistics(@Value("${mock.stats.salary-bucket-width:5000}") int bucketWidth) {
+        if (bucketWidth <= 0) {
+            throw new IllegalArgumentException("mock.stats.salary-bucket-width must be positive");
+        }
+        this.bucketWidth = bucketWidth;
+    }
+
+    public synchronized void add(@NonNull MockEmployee employee) {
+        count++;
+        if (employee.getAge() != null) {
+            ageSum += employee.getAge();
+        }
+        if (employee.getSalary() != null) {
+            int salary = employee.getSalary();
+            salarySum += salary;
+            salaries.merge(salary, 1, Integer::sum);
+            histogram.merge(bucketOf(salary), 1L, Long::sum);
+        }
+        if (employee.getTitle() != null) {
+            titles.merge(employee.getTitle(), 1L, Long::sum);
+        }
+    }
+
+    public synchronized void remove(@NonNull MockEmployee employee) {
+        count--;
+        if (employee.getAge() != null) {
+            ageSum -= employee.getAge();
+        }
+        if (employee.getSalary() != null) {
+            int salary = employee.getSalary();
+            salarySum -= salary;
+            salaries.computeIfPresent(salary, (ignored, headcount) -> headcount > 1 ? headcount - 1 : null);
+            histogram.computeIfPresent(bucketOf(salary), (ignored, headcount) -> headcount > 1 ? headcount - 1 : null);
+        }
+        if (employee.getTitle() != null) {
+            titles.computeIfPresent(employee.getTitle(), (ignored, headcount) -> headcount > 1 ? headcount - 1 : null);
+        }
+    }
+
+    public synchronized void clear() {
+        count = 0;
+        salarySum = 0;
+        ageSum = 0;
+        salaries.clear();
+        histogram.clear();
+        titles.clear();
+    }
+
+    public synchronized EmployeeStats snapshot() {
+        long salaried = histogram.values().stream().mapToLong(Long::longValue).sum();
+        return new EmployeeStats(
+                count,
+                salaried == 0 ? 0 : (double) salarySum / salaried,
+                count == 0 ? 0 : (double) ageSum / count,
+                salaries.isEmpty() ? null : salaries.firstKey(),
+                salaries.isEmpty() ? null : salaries.lastKey(),
+                bucketWidth,
+                new TreeMap<>(histogram),
+                percentiles(salaried),
+                new HashMap<>(titles));
+    }
+
+    private int bucketOf(int salary) {
+        return Math.floorDiv(salary, bucketWidth) * bucketWidth;
+    }
+
+    /*
+     * Interpolates linearly inside the bucket holding the requested rank, clamped to the exact min and max salary.
+     * These serve direct clients of the mock only: the API module recomputes percentiles from the histogram in
+     * EmployeeStatsMerger, whatever is reported here.
+     */
+    private Map<String, Integer> percentiles(long salaried) {
+        Map<String, Integer> result = new LinkedHashMap<>();
+        if (salaried == 0) {
+            return result;
+        }
+        for (int percentile : PERCENTILES) {
+            long rank = Math.max(1, (long) Math.ceil(percentile / 100.0 * salaried));
+            long seen = 0;
+            for (Map.Entry<Integer, Long> bucket : histogram.entrySet()) {
+                if (seen + bucket.getValue() >= rank) {
+                    double fraction = (double) (rank - seen) / bucket.getValue();
+                    int estimate = bucket.getKey() + (int) Math.round(fraction * bucketWidth);
+                    result.put(
+                            "p" + percentile,
+                            Math.max(salaries.firstKey(), Math.min(salaries.lastKey(), estimate)));
+                    break;
+                }
+                seen += bucket.getValue();
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,11 @@
+package com.reliaquest.server.service;
+
+/*
+ * Thrown for a bulk import line that is not a valid employee. Batches before it have already been imported.
+ */
+public class InvalidImportException extends RuntimeException {
+
+    public InvalidImportException(String message) {
+        super(message);
+    }
+}
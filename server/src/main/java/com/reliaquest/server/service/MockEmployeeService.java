@@ -3,12 +3,27 @@ package com.reliaquest.server.service;
 import com.reliaquest.server.config.ServerConfiguration;
 import com.reliaquest.server.model.CreateMockEmployeeInput;
 import com.reliaquest.server.model.DeleteMockEmployeeInput;
+import com.reliaquest.server.model.EmployeeQuery;
+import com.reliaquest.server.model.EmployeeStats;
 import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.model.ReplicationEvent;
+import com.reliaquest.server.model.ReplicationSnapshot;
+import jakarta.annotation.PostConstruct;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.TreeMap;
 import java.util.UUID;
-import lombok.Getter;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -22,37 +37,407 @@ public class MockEmployeeService {
 
     private final Faker faker;
 
-    @Getter
     private final List<MockEmployee> mockEmployees;
 
+    private final EmployeeStatistics statistics;
+
+    private final ReplicationLog replicationLog;
+
+    /*
+     * Secondary indexes over mockEmployees, maintained together with it under the write lock.
+     */
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<UUID, MockEmployee> byId = new HashMap<>();
+    private final NavigableMap<Integer, List<MockEmployee>> bySalary = new TreeMap<>();
+    private final NavigableMap<Integer, List<MockEmployee>> byAge = new TreeMap<>();
+    private final Map<String, List<MockEmployee>> byTitle = new HashMap<>();
+    // Employees without a salary or age, which the ordered indexes cannot hold; sorted scans return them last
+    private final List<MockEmployee> unknownSalary = new ArrayList<>();
+    private final List<MockEmployee> unknownAge = new ArrayList<>();
+
+    @PostConstruct
+    void initIndexes() {
+        mockEmployees.forEach(this::index);
+    }
+
+    public List<MockEmployee> getMockEmployees() {
+        lock.readLock().lock();
+        try {
+            return List.copyOf(mockEmployees);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /*
+     * Serves the query from the most selective index available: title, then salary, then age. When the chosen index
+     * is ordered by the sort field the result is produced in order and the limit stops the scan early.
+     */
+    public List<MockEmployee> query(@NonNull EmployeeQuery query) {
+        if (query.isEmpty()) {
+            return getMockEmployees();
+        }
+        lock.readLock().lock();
+        try {
+            final var sortField = query.sortField();
+            final boolean ordered;
+            Stream<MockEmployee> candidates;
+            if (query.getTitle() != null) {
+                candidates = byTitle.getOrDefault(titleKey(query.getTitle()), List.of()).stream();
+                ordered = false;
+            } else if (query.getMinSalary() != null || query.getMaxSalary() != null || "salary".equals(sortField)) {
+                candidates =
+                        scan(bySalary, unknownSalary, query.minSalaryOrDefault(), query.maxSalaryOrDefault(), query);
+                ordered = "salary".equals(sortField);
+            } else if (query.getAgeRange() != null || "age".equals(sortField)) {
+                candidates = scan(byAge, unknownAge, query.minAge(), query.maxAge(), query);
+                ordered = "age".equals(sortField);
+            } else {
+                candidates = mockEmployees.stream();
+                ordered = false;
+            }
+            candidates = candidates.filter(employee -> matches(employee, query));
+            if (sortField != null && !ordered) {
+                candidates = candidates.sorted(comparator(sortField, query.isDescending()));
+            }
+            if (query.getLimit() != null) {
+                candidates = candidates.limit(query.getLimit());
+            }
+            return candidates.toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
     public Optional<MockEmployee> findById(@NonNull UUID uuid) {
-        return mockEmployees.stream()
-                .filter(mockEmployee -> Objects.nonNull(mockEmployee.getId())
-                        && mockEmployee.getId().equals(uuid))
-                .findFirst();
+        lock.readLock().lock();
+        try {
+            return Optional.ofNullable(byId.get(uuid));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /*
+     * Looks up every id under a single read lock. Results follow the order of the ids; unknown, malformed and repeated
+     * ids are skipped.
+     */
+    public List<MockEmployee> findAllById(@NonNull List<String> ids) {
+        final var seen = new HashSet<UUID>();
+        final var found = new ArrayList<MockEmployee>(ids.size());
+        lock.readLock().lock();
+        try {
+            for (final var id : ids) {
+                final var uuid = parseUuid(id);
+                if (uuid != null && seen.add(uuid)) {
+                    final var employee = byId.get(uuid);
+                    if (employee != null) {
+                        found.add(employee);
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return found;
     }
 
     public MockEmployee create(@NonNull CreateMockEmployeeInput input) {
+        rejectOnReplica();
         final var mockEmployee = MockEmployee.from(
                 ServerConfiguration.EMAIL_TEMPLATE.formatted(
                         faker.twitter().userName().toLowerCase()),
                 input);
-        mockEmployees.add(mockEmployee);
+        lock.writeLock().lock();
+        try {
+            mockEmployees.add(mockEmployee);
+            index(mockEmployee);
+            replicationLog.append(ReplicationEvent.Operation.CREATE, mockEmployee);
+        } finally {
+            lock.writeLock().unlock();
+        }
         log.debug("Added employee: {}", mockEmployee);
         return mockEmployee;
     }
 
     public boolean delete(@NonNull DeleteMockEmployeeInput input) {
-        final var mockEmployee = mockEmployees.stream()
-                .filter(employee -> Objects.nonNull(employee.getName())
-                        && employee.getName().equalsIgnoreCase(input.getName()))
-                .findFirst();
+        rejectOnReplica();
+        Optional<MockEmployee> mockEmployee;
+        lock.writeLock().lock();
+        try {
+            mockEmployee = mockEmployees.stream()
+                    .filter(employee -> Objects.nonNull(employee.getName())
+                            && employee.getName().equalsIgnoreCase(input.getName()))
+                    .findFirst();
+            mockEmployee.ifPresent(employee -> {
+                mockEmployees.remove(employee);
+                unindex(employee);
+                replicationLog.append(ReplicationEvent.Operation.DELETE, employee);
+            });
+        } finally {
+            lock.writeLock().unlock();
+        }
         if (mockEmployee.isPresent()) {
-            mockEmployees.remove(mockEmployee.get());
             log.debug("Removed employee: {}", mockEmployee.get());
             return true;
         }
 
         return false;
     }
+
+    /*
+     * Bulk import of one batch under a single write lock. Employees without an id or email get one, ids already
+     * present are skipped. Rows are not written to the replication log one by one, since an import of any size would
+     * overrun it; call finishImport() once the import is done. Returns the number of employees added.
+     */
+    public int addAll(@NonNull List<MockEmployee> employees) {
+        rejectOnReplica();
+        int added = 0;
+        lock.writeLock().lock();
+        try {
+            for (final var employee : employees) {
+                if (employee.getId() == null) {
+                    employee.setId(UUID.randomUUID());
+                }
+                if (byId.containsKey(employee.getId())) {
+                    continue;
+                }
+                if (employee.getEmail() == null || employee.getEmail().isBlank()) {
+                    employee.setEmail(ServerConfiguration.EMAIL_TEMPLATE.formatted(
+                            faker.twitter().userName().toLowerCase()));
+                }
+                mockEmployees.add(employee);
+                index(employee);
+                added++;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        return added;
+    }
+
+    /*
+     * Ends a bulk import. Its rows are not in the log, so this starts a new epoch and replicas reload from a snapshot.
+     */
+    public void finishImport() {
+        lock.writeLock().lock();
+        try {
+            replicationLog.restart();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /*
+     * Removes every employee ahead of a replacing import. The log has no entry for this, so it starts a new epoch and
+     * replicas reload from a snapshot.
+     */
+    public void clear() {
+        rejectOnReplica();
+        lock.writeLock().lock();
+        try {
+            clearAll();
+            replicationLog.restart();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Removed all employees");
+    }
+
+    public EmployeeStats getStats() {
+        return statistics.snapshot();
+    }
+
+    // Consistent with the log: appends happen under the write lock
+    public ReplicationSnapshot snapshot() {
+        lock.readLock().lock();
+        try {
+            return new ReplicationSnapshot(
+                    replicationLog.getEpoch(), replicationLog.getLastSequence(), List.copyOf(mockEmployees));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /*
+     * Replica side: replaces every employee with the primary's snapshot and moves the local log to its position.
+     */
+    public void applySnapshot(@NonNull ReplicationSnapshot snapshot) {
+        lock.writeLock().lock();
+        try {
+            clearAll();
+            mockEmployees.addAll(snapshot.employees());
+            mockEmployees.forEach(this::index);
+            replicationLog.reset(snapshot.epoch(), snapshot.sequence());
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Applied snapshot of {} employees at sequence {}", snapshot.employees().size(), snapshot.sequence());
+    }
+
+    /*
+     * Replica side: applies log entries in order. Stops and returns false at the first entry that does not directly
+     * follow the local position, in which case a new snapshot is needed.
+     */
+    public boolean applyEvents(@NonNull List<ReplicationEvent> events) {
+        lock.writeLock().lock();
+        try {
+            for (final var event : events) {
+                if (event.sequence() != replicationLog.getLastSequence() + 1) {
+                    return false;
+                }
+                final var employee = event.employee();
+                switch (event.operation()) {
+                    case CREATE -> {
+                        if (!byId.containsKey(employee.getId())) {
+                            mockEmployees.add(employee);
+                            index(employee);
+                        }
+                    }
+                    case DELETE -> {
+                        final var existing = byId.get(employee.getId());
+                        if (existing != null) {
+                            mockEmployees.remove(existing);
+                            unindex(existing);
+                        }
+                    }
+                }
+                replicationLog.appendReplicated(event);
+            }
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void rejectOnReplica() {
+        if (replicationLog.isReplica()) {
+            throw new ReadOnlyReplicaException();
+        }
+    }
+
+    // Drops the indexes wholesale, removing employees one by one is quadratic in the larger index buckets
+    private void clearAll() {
+        mockEmployees.clear();
+        byId.clear();
+        bySalary.clear();
+        byAge.clear();
+        byTitle.clear();
+        unknownSalary.clear();
+        unknownAge.clear();
+        statistics.clear();
+    }
+
+    private void index(MockEmployee employee) {
+        if (employee.getId() != null) {
+            byId.put(employee.getId(), employee);
+        }
+        if (employee.getSalary() != null) {
+            bySalary.computeIfAbsent(employee.getSalary(), ignored -> new ArrayList<>()).add(employee);
+        } else {
+            unknownSalary.add(employee);
+        }
+        if (employee.getAge() != null) {
+            byAge.computeIfAbsent(employee.getAge(), ignored -> new ArrayList<>()).add(employee);
+        } else {
+            unknownAge.add(employee);
+        }
+        if (employee.getTitle() != null) {
+            byTitle.computeIfAbsent(titleKey(employee.getTitle()), ignored -> new ArrayList<>()).add(employee);
+        }
+        statistics.add(employee);
+    }
+
+    private void unindex(MockEmployee employee) {
+        if (employee.getId() != null) {
+            byId.remove(employee.getId());
+        }
+        if (employee.getSalary() != null) {
+            removeFrom(bySalary, employee.getSalary(), employee);
+        } else {
+            unknownSalary.remove(employee);
+        }
+        if (employee.getAge() != null) {
+            removeFrom(byAge, employee.getAge(), employee);
+        } else {
+            unknownAge.remove(employee);
+        }
+        if (employee.getTitle() != null) {
+            removeFrom(byTitle, titleKey(employee.getTitle()), employee);
+        }
+        statistics.remove(employee);
+    }
+
+    private static <K> void removeFrom(Map<K, List<MockEmployee>> index, K key, MockEmployee employee) {
+        index.computeIfPresent(key, (ignored, employees) -> {
+            employees.remove(employee);
+            return employees.isEmpty() ? null : employees;
+        });
+    }
+
+    /*
+     * Employees without a key follow the indexed ones in either direction, like the comparator orders them. A range
+     * filter on the same field drops them again in matches().
+     */
+    private static Stream<MockEmployee> scan(
+            NavigableMap<Integer, List<MockEmployee>> index,
+            List<MockEmployee> unknown,
+            int from,
+            int to,
+            EmployeeQuery query) {
+        if (from > to) {
+            return Stream.empty();
+        }
+        NavigableMap<Integer, List<MockEmployee>> range = index.subMap(from, true, to, true);
+        return Stream.concat(
+                (query.isDescending() ? range.descendingMap() : range)
+                        .values().stream()
+                        .flatMap(List::stream),
+                unknown.stream());
+    }
+
+    private static boolean matches(MockEmployee employee, EmployeeQuery query) {
+        if ((query.getMinSalary() != null || query.getMaxSalary() != null)
+                && (employee.getSalary() == null
+                        || employee.getSalary() < query.minSalaryOrDefault()
+                        || employee.getSalary() > query.maxSalaryOrDefault())) {
+            return false;
+        }
+        if (query.getAgeRange() != null
+                && (employee.getAge() == null
+                        || employee.getAge() < query.minAge()
+                        || employee.getAge() > query.maxAge())) {
+            return false;
+        }
+        return query.getTitle() == null
+                || (employee.getTitle() != null && employee.getTitle().equalsIgnoreCase(query.getTitle()));
+    }
+
+    // Missing values sort last in either direction, matching the order of the index scans
+    private static Comparator<MockEmployee> comparator(String sortField, boolean descending) {
+        return switch (sortField) {
+            case "salary" -> Comparator.comparing(
+                    MockEmployee::getSalary, Comparator.nullsLast(direction(Comparator.naturalOrder(), descending)));
+            case "age" -> Comparator.comparing(
+                    MockEmployee::getAge, Comparator.nullsLast(direction(Comparator.naturalOrder(), descending)));
+            default -> Comparator.comparing(
+                    MockEmployee::getName, Comparator.nullsLast(direction(String.CASE_INSENSITIVE_ORDER, descending)));
+        };
+    }
+
+    private static <T> Comparator<T> direction(Comparator<T> ascending, boolean descending) {
+        return descending ? ascending.reversed() : ascending;
+    }
+
+    private static UUID parseUuid(String id) {
+        try {
+            return UUID.fromString(id);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static String titleKey(String title) {
+        return title.toLowerCase(Locale.ROOT);
+    }
 }
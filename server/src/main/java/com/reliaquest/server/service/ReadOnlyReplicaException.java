@@ -0,0 +1,11 @@
+package com.reliaquest.server.service;
+
+/*
+ * Thrown for writes sent to a replica; only the primary accepts them.
+ */
+public class ReadOnlyReplicaException extends RuntimeException {
+
+    public ReadOnlyReplicaException() {
+        super("This instance is a read-only replica, send writes to the primary.");
+    }
+}
@@ -0,0 +1,150 @@
+package com.reliaquest.server.service;
+
+import com.reliaquest.server.model.ReplicationBatch;
+import com.reliaquest.server.model.ReplicationSnapshot;
+import com.reliaquest.server.model.ReplicationStatus;
+import com.reliaquest.server.model.Response;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PostConstruct;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.client.RestClientException;
+
+/*
+ * Keeps a replica in step with the primary: a snapshot first, then the primary's log polled at a fixed delay. The
+ * replica starts empty, so it never serves data of its own.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "mock.replication.role", havingValue = "replica")
+public class ReplicaSynchronizer implements MeterBinder {
+
+    private static final ParameterizedTypeReference<Response<ReplicationSnapshot>> SNAPSHOT =
+            new ParameterizedTypeReference<>() {};
+    private static final ParameterizedTypeReference<Response<ReplicationBatch>> BATCH =
+            new ParameterizedTypeReference<>() {};
+
+    // Polls in a row when the primary has more entries than fit in one batch
+    private static final int MAX_BATCHES_PER_POLL = 10;
+
+    private final MockEmployeeService mockEmployeeService;
+    private final ReplicationLog replicationLog;
+    private final RestClient primary;
+    private final int batchSize;
+
+    private volatile boolean snapshotRequired = true;
+    private volatile long primarySequence;
+    private volatile long caughtUpAtMillis;
+
+    public ReplicaSynchronizer(
+            MockEmployeeService mockEmployeeService,
+            ReplicationLog replicationLog,
+            @Value("${mock.replication.primary-url:http://localhost:8112}") String primaryUrl,
+            @Value("${mock.replication.batch-size:1000}") int batchSize) {
+        this.mockEmployeeService = mockEmployeeService;
+        this.replicationLog = replicationLog;
+        this.primary = RestClient.create(primaryUrl);
+        this.batchSize = batchSize;
+        log.info("Replicating from {}", primaryUrl);
+    }
+
+    // Drops the replica's log position so the first poll loads a snapshot
+    @PostConstruct
+    void start() {
+        mockEmployeeService.applySnapshot(new ReplicationSnapshot("", 0, List.of()));
+    }
+
+    @Scheduled(fixedDelayString = "${mock.replication.poll-interval-ms:500}")
+    public void poll() {
+        try {
+            for (int i = 0; i < MAX_BATCHES_PER_POLL; i++) {
+                if (snapshotRequired) {
+                    synchronizeSnapshot();
+                }
+                if (!pullLog()) {
+                    return;
+                }
+            }
+        } catch (RestClientException e) {
+            log.warn("Replication from primary failed: {}", e.getMessage());
+        }
+    }
+
+    public ReplicationStatus status() {
+        final long sequence = replicationLog.getLastSequence();
+        return new ReplicationStatus(
+                replicationLog.getRole(),
+                replicationLog.getEpoch(),
+                sequence,
+                primarySequence,
+                lagEvents(),
+                lagSeconds());
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("replication.lag.events", this, ReplicaSynchronizer::lagEvents)
+                .description("Primary log entries not yet applied on this replica")
+                .register(registry);
+        Gauge.builder("replication.lag.seconds", this, ReplicaSynchronizer::lagSeconds)
+                .description("Time since this replica was last caught up with the primary")
+                .register(registry);
+    }
+
+    private void synchronizeSnapshot() {
+        final var response = primary.get().uri("/replication/snapshot").retrieve().body(SNAPSHOT);
+        if (response == null || response.data() == null) {
+            throw new RestClientException("Empty snapshot from primary");
+        }
+        mockEmployeeService.applySnapshot(response.data());
+        primarySequence = response.data().sequence();
+        caughtUpAtMillis = System.currentTimeMillis();
+        snapshotRequired = false;
+    }
+
+    // Returns true when more entries are waiting on the primary
+    private boolean pullLog() {
+        final var response = primary.get()
+                .uri(
+                        "/replication/log?epoch={epoch}&after={after}&limit={limit}",
+                        replicationLog.getEpoch(),
+                        replicationLog.getLastSequence(),
+                        batchSize)
+                .retrieve()
+                .body(BATCH);
+        if (response == null || response.data() == null) {
+            throw new RestClientException("Empty log batch from primary");
+        }
+        final var batch = response.data();
+        primarySequence = batch.lastSequence();
+        if (batch.snapshotRequired() || !mockEmployeeService.applyEvents(batch.events())) {
+            log.info("Replica fell out of the primary's log, requesting a new snapshot");
+            snapshotRequired = true;
+            return true;
+        }
+        if (replicationLog.getLastSequence() >= batch.lastSequence()) {
+            caughtUpAtMillis = System.currentTimeMillis();
+            return false;
+        }
+        return true;
+    }
+
+    private long lagEvents() {
+        return Math.max(0, primarySequence - replicationLog.getLastSequence());
+    }
+
+    private double lagSeconds() {
+        if (caughtUpAtMillis == 0) {
+            return Double.NaN;
+        }
+        return lagEvents() == 0 ? 0 : (System.currentTimeMillis() - caughtUpAtMillis) / 1000.0;
+    }
+}
@@ -0,0 +1,126 @@
+package com.reliaquest.server.service;
+
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.model.ReplicationBatch;
+import com.reliaquest.server.model.ReplicationEvent;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/*
+ * Ordered log of the most recent writes, kept so replicas can catch up without a full snapshot. Writers append while
+ * holding the MockEmployeeService write lock, so log order is the order in which writes were applied. On a replica
+ * the log mirrors the primary's sequences, which lets replicas be chained.
+ */
+@Component
+public class ReplicationLog implements MeterBinder {
+
+    public static final String PRIMARY = "primary";
+    public static final String REPLICA = "replica";
+
+    private final String role;
+    private final int capacity;
+
+    private final Deque<ReplicationEvent> events = new ArrayDeque<>();
+    private String epoch = UUID.randomUUID().toString();
+    private long lastSequence;
+
+    public ReplicationLog(
+            @Value("${mock.replication.role:primary}") String role,
+            @Value("${mock.replication.log-capacity:10000}") int capacity) {
+        if (!PRIMARY.equals(role) && !REPLICA.equals(role)) {
+            throw new IllegalArgumentException("mock.replication.role must be primary or replica: " + role);
+        }
+        this.role = role;
+        this.capacity = capacity;
+    }
+
+    public String getRole() {
+        return role;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public boolean isReplica() {
+        return REPLICA.equals(role);
+    }
+
+    public synchronized String getEpoch() {
+        return epoch;
+    }
+
+    public synchronized long getLastSequence() {
+        return lastSequence;
+    }
+
+    public synchronized ReplicationEvent append(ReplicationEvent.Operation operation, MockEmployee employee) {
+        final var event = new ReplicationEvent(++lastSequence, operation, employee, System.currentTimeMillis());
+        add(event);
+        return event;
+    }
+
+    // Replicas record the primary's events under the primary's sequence
+    public synchronized void appendReplicated(ReplicationEvent event) {
+        lastSequence = event.sequence();
+        add(event);
+    }
+
+    public synchronized void reset(String epoch, long sequence) {
+        this.epoch = epoch;
+        this.lastSequence = sequence;
+        events.clear();
+    }
+
+    // Starts a new epoch, so replicas drop their position and load a new snapshot
+    public synchronized void restart() {
+        reset(UUID.randomUUID().toString(), 0);
+    }
+
+    /*
+     * Entries after the given sequence, oldest first. Collected from the tail, since replicas usually ask for the last
+     * few entries only.
+     */
+    public synchronized ReplicationBatch since(String replicaEpoch, long after, int limit) {
+        final long oldest = events.isEmpty() ? lastSequence + 1 : events.peekFirst().sequence();
+        if (!epoch.equals(replicaEpoch) || after > lastSequence || after + 1 < oldest) {
+            return new ReplicationBatch(epoch, lastSequence, true, List.of());
+        }
+        final var newer = new ArrayList<ReplicationEvent>();
+        final var iterator = events.descendingIterator();
+        while (iterator.hasNext()) {
+            final var event = iterator.next();
+            if (event.sequence() <= after) {
+                break;
+            }
+            newer.add(event);
+        }
+        Collections.reverse(newer);
+        final var batch = newer.size() > limit ? List.copyOf(newer.subList(0, limit)) : newer;
+        return new ReplicationBatch(epoch, lastSequence, false, batch);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("replication.sequence", this, ReplicationLog::getLastSequence)
+                .description("Sequence of the last write in the replication log")
+                .tag("role", role)
+                .register(registry);
+    }
+
+    private void add(ReplicationEvent event) {
+        events.addLast(event);
+        while (events.size() > capacity) {
+            events.removeFirst();
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.reliaquest.server.web;
+
+import java.util.Locale;
+import java.util.Optional;
+
+/*
+ * Endpoints of the mock that can be limited and faulted individually. Reads are cheap for the mock and get larger
+ * default quotas than writes; the full list is the most expensive read, and bulk export and import move the whole
+ * store at once.
+ */
+public enum EmployeeEndpoint {
+    LIST(true, 20),
+    GET(true, 60),
+    STATS(true, 60),
+    BATCH(true, 20),
+    EXPORT(true, 2),
+    IMPORT(false, 2),
+    CREATE(false, 10),
+    DELETE(false, 10),
+    OTHER_READ(true, 30),
+    OTHER_WRITE(false, 10);
+
+    private static final String EMPLOYEE_PATH = "/api/v1/employee";
+
+    private final boolean read;
+    private final int defaultQuota;
+
+    EmployeeEndpoint(boolean read, int defaultQuota) {
+        this.read = read;
+        this.defaultQuota = defaultQuota;
+    }
+
+    public boolean isRead() {
+        return read;
+    }
+
+    public int getDefaultQuota() {
+        return defaultQuota;
+    }
+
+    // Property suffix for mock.rate-limit.quota.<key> and mock.faults.endpoints.<key>
+    public String key() {
+        return name().toLowerCase(Locale.ROOT).replace('_', '-');
+    }
+
+    public static Optional<EmployeeEndpoint> fromKey(String key) {
+        for (final var endpoint : values()) {
+            if (endpoint.key().equalsIgnoreCase(key)) {
+                return Optional.of(endpoint);
+            }
+        }
+        return Optional.empty();
+    }
+
+    public static EmployeeEndpoint of(String method, String path) {
+        final boolean get = "GET".equalsIgnoreCase(method) || "HEAD".equalsIgnoreCase(method);
+        final var relative = path.startsWith(EMPLOYEE_PATH) ? path.substring(EMPLOYEE_PATH.length()) : null;
+        if (relative == null) {
+            return get ? OTHER_READ : OTHER_WRITE;
+        }
+        if (relative.isEmpty() || relative.equals("/")) {
+            if (get) {
+                return LIST;
+            }
+            return "DELETE".equalsIgnoreCase(method) ? DELETE : "POST".equalsIgnoreCase(method) ? CREATE : OTHER_WRITE;
+        }
+        if (relative.equals("/batch") && "POST".equalsIgnoreCase(method)) {
+            return BATCH;
+        }
+        if (relative.equals("/bulk")) {
+            return get ? EXPORT : "POST".equalsIgnoreCase(method) ? IMPORT : OTHER_WRITE;
+        }
+        if (!get) {
+            return OTHER_WRITE;
+        }
+        return relative.equals("/stats") ? STATS : relative.indexOf('/', 1) < 0 ? GET : OTHER_READ;
+    }
+}
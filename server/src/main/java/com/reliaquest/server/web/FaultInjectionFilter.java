@@ -0,0 +1,169 @@
+package com.reliaquest.server.web;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.server.model.Response;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/*
+ * Servlet adapter for the FaultInjector. Delays block the request thread, like a slow handler would.
+ */
+@Component
+@Profile("!reactive")
+@RequiredArgsConstructor
+public class FaultInjectionFilter extends OncePerRequestFilter {
+
+    private final FaultInjector faultInjector;
+
+    private final ObjectMapper objectMapper;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getRequestURI().startsWith("/api/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        final var plan = faultInjector.plan(request.getMethod(), request.getRequestURI());
+        if (plan.isNone()) {
+            chain.doFilter(request, response);
+            return;
+        }
+        sleep(plan.delayMillis());
+        if (plan.reset()) {
+            // An exception after the response is committed makes Tomcat close the connection at once, so the
+            // client gets the prefix and then loses the connection short of the promised length
+            response.setStatus(HttpStatus.OK.value());
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            final var prefix = FaultPlan.resetPrefix();
+            response.setContentLength(prefix.length * 4);
+            response.getOutputStream().write(prefix);
+            response.flushBuffer();
+            throw new IOException("Injected connection reset");
+        }
+        if (plan.isError()) {
+            response.setStatus(plan.errorStatus());
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            objectMapper.writeValue(response.getOutputStream(), Response.error(FaultPlan.ERROR_MESSAGE));
+            return;
+        }
+        chain.doFilter(request, plan.isThrottled() ? new ThrottledResponse(response, plan.bytesPerSecond()) : response);
+    }
+
+    private static void sleep(long millis) throws InterruptedIOException {
+        if (millis <= 0) {
+            return;
+        }
+        try {
+            TimeUnit.MILLISECONDS.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while injecting latency");
+        }
+    }
+
+    private static final class ThrottledResponse extends HttpServletResponseWrapper {
+
+        private final long bytesPerSecond;
+
+        private ServletOutputStream outputStream;
+
+        private PrintWriter writer;
+
+        ThrottledResponse(HttpServletResponse response, long bytesPerSecond) {
+            super(response);
+            this.bytesPerSecond = bytesPerSecond;
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            if (outputStream == null) {
+                outputStream = new ThrottledOutputStream(super.getOutputStream(), bytesPerSecond);
+            }
+            return outputStream;
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            if (writer == null) {
+                writer = new PrintWriter(new OutputStreamWriter(getOutputStream(), getCharacterEncoding()));
+            }
+            return writer;
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            if (writer != null) {
+                writer.flush();
+            }
+            super.flushBuffer();
+        }
+    }
+
+    /*
+     * Writes in slices of a tenth of the rate, flushing each one and pausing for the time it should take to send.
+     */
+    private static final class ThrottledOutputStream extends ServletOutputStream {
+
+        private final ServletOutputStream delegate;
+
+        private final long bytesPerSecond;
+
+        private final int sliceSize;
+
+        ThrottledOutputStream(ServletOutputStream delegate, long bytesPerSecond) {
+            this.delegate = delegate;
+            this.bytesPerSecond = bytesPerSecond;
+            this.sliceSize = (int) Math.min(Integer.MAX_VALUE, Math.max(1, bytesPerSecond / 10));
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            write(new byte[] {(byte) b}, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) throws IOException {
+            while (length > 0) {
+                final int slice = Math.min(length, sliceSize);
+                delegate.write(bytes, offset, slice);
+                delegate.flush();
+                sleep(slice * 1000L / bytesPerSecond);
+                offset += slice;
+                length -= slice;
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            delegate.flush();
+        }
+
+        @Override
+        public boolean isReady() {
+            return delegate.isReady();
+        }
+
+        @Override
+        public void setWriteListener(WriteListener writeListener) {
+            delegate.setWriteListener(writeListener);
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package com.reliaquest.server.web;
+
+import com.reliaquest.server.model.FaultProfile;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+
+/*
+ * Decides which faults to inject into a request based on the profile of its endpoint. Profiles can be replaced at
+ * runtime. Each endpoint draws from its own Random derived from the seed, so with a given seed the n-th request to an
+ * endpoint always gets the same faults, whatever the traffic to other endpoints. Concurrent requests to the same
+ * endpoint still take their draws in arrival order. Reseeding also ends running error bursts, so the sequences start
+ * over from scratch.
+ */
+@Slf4j
+public class FaultInjector {
+
+    // Spreads the per-endpoint seeds apart (the 64-bit golden ratio)
+    private static final long SEED_STRIDE = 0x9E3779B97F4A7C15L;
+
+    private volatile Map<EmployeeEndpoint, FaultProfile> profiles;
+
+    private final Map<EmployeeEndpoint, AtomicInteger> bursts = new EnumMap<>(EmployeeEndpoint.class);
+
+    private volatile Map<EmployeeEndpoint, Random> randoms;
+
+    private volatile long seed;
+
+    public FaultInjector(Map<EmployeeEndpoint, FaultProfile> profiles, long seed) {
+        this.profiles = Collections.unmodifiableMap(new EnumMap<>(profiles));
+        for (final var endpoint : EmployeeEndpoint.values()) {
+            bursts.put(endpoint, new AtomicInteger());
+        }
+        reseed(seed);
+    }
+
+    public FaultPlan plan(String method, String path) {
+        if (profiles.isEmpty()) {
+            return FaultPlan.none();
+        }
+        final var endpoint = EmployeeEndpoint.of(method, path);
+        final var profile = profiles.get(endpoint);
+        if (profile == null) {
+            return FaultPlan.none();
+        }
+        final var rnd = randoms.get(endpoint);
+        // all draws for one request are taken together, so each request consumes a fixed slice of the sequence
+        synchronized (rnd) {
+            final long jitter = profile.getJitterMs() > 0 ? rnd.nextInt(profile.getJitterMs()) : 0;
+            final long delay = latency(profile, rnd.nextDouble()) + jitter;
+            final boolean reset = profile.getResetRate() > 0 && rnd.nextDouble() < profile.getResetRate();
+            final boolean error = !reset && failing(endpoint, profile, rnd);
+            return new FaultPlan(delay, error ? profile.getErrorStatus() : 0, reset, profile.getBytesPerSecond());
+        }
+    }
+
+    public Map<EmployeeEndpoint, FaultProfile> getProfiles() {
+        return profiles;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public synchronized void setProfile(EmployeeEndpoint endpoint, FaultProfile profile) {
+        final var updated = new EnumMap<EmployeeEndpoint, FaultProfile>(EmployeeEndpoint.class);
+        updated.putAll(profiles);
+        if (profile == null) {
+            updated.remove(endpoint);
+        } else {
+            updated.put(endpoint, profile);
+        }
+        bursts.get(endpoint).set(0);
+        profiles = Collections.unmodifiableMap(updated);
+        log.info("Faults for {} set to {}", endpoint.key(), profile);
+    }
+
+    public synchronized void clear() {
+        profiles = Map.of();
+        bursts.values().forEach(burst -> burst.set(0));
+        log.info("Faults cleared");
+    }
+
+    public synchronized void reseed(long seed) {
+        final var updated = new EnumMap<EmployeeEndpoint, Random>(EmployeeEndpoint.class);
+        for (final var endpoint : EmployeeEndpoint.values()) {
+            updated.put(endpoint, new Random(seed ^ (SEED_STRIDE * (endpoint.ordinal() + 1))));
+        }
+        this.seed = seed;
+        this.randoms = Collections.unmodifiableMap(updated);
+        bursts.values().forEach(burst -> burst.set(0));
+    }
+
+    // An error either continues a running burst or starts a new one with probability errorRate
+    private boolean failing(EmployeeEndpoint endpoint, FaultProfile profile, Random rnd) {
+        final var burst = bursts.get(endpoint);
+        if (burst.getAndUpdate(remaining -> Math.max(0, remaining - 1)) > 0) {
+            return true;
+        }
+        if (profile.getErrorRate() > 0 && rnd.nextDouble() < profile.getErrorRate()) {
+            burst.set(profile.getErrorBurstLength() - 1);
+            return true;
+        }
+        return false;
+    }
+
+    /*
+     * Inverse CDF through (0, p50 / 2), (0.5, p50), (0.9, p90), (0.99, p99) and (1, max), with percentiles that are
+     * not set raised to the one below so the curve never decreases.
+     */
+    static long latency(FaultProfile profile, double quantile) {
+        final double p50 = profile.getLatencyP50Ms();
+        final double p90 = Math.max(p50, profile.getLatencyP90Ms());
+        final double p99 = Math.max(p90, profile.getLatencyP99Ms());
+        final double max = Math.max(p99, profile.getLatencyMaxMs());
+        final double[] quantiles = {0, 0.5, 0.9, 0.99, 1};
+        final double[] values = {p50 / 2, p50, p90, p99, max};
+        for (int i = 1; i < quantiles.length; i++) {
+            if (quantile <= quantiles[i]) {
+                final double fraction = (quantile - quantiles[i - 1]) / (quantiles[i] - quantiles[i - 1]);
+                return Math.round(values[i - 1] + fraction * (values[i] - values[i - 1]));
+            }
+        }
+        return Math.round(max);
+    }
+}
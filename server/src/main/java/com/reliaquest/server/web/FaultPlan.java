@@ -0,0 +1,36 @@
+package com.reliaquest.server.web;
+
+import java.nio.charset.StandardCharsets;
+
+/*
+ * Faults chosen for a single request. A reset takes precedence over an error status; the delay applies to both.
+ */
+public record FaultPlan(long delayMillis, int errorStatus, boolean reset, long bytesPerSecond) {
+
+    public static final String ERROR_MESSAGE = "Injected fault";
+
+    private static final byte[] RESET_PREFIX = "{\"data\":[{\"id\":\"".getBytes(StandardCharsets.UTF_8);
+
+    private static final FaultPlan NONE = new FaultPlan(0, 0, false, 0);
+
+    public static FaultPlan none() {
+        return NONE;
+    }
+
+    // Start of a list response; a reset promises more bytes than this and then closes the connection
+    public static byte[] resetPrefix() {
+        return RESET_PREFIX.clone();
+    }
+
+    public boolean isNone() {
+        return delayMillis == 0 && errorStatus == 0 && !reset && bytesPerSecond == 0;
+    }
+
+    public boolean isError() {
+        return errorStatus > 0;
+    }
+
+    public boolean isThrottled() {
+        return bytesPerSecond > 0;
+    }
+}
@@ -0,0 +1,66 @@
+package com.reliaquest.server.web;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/*
+ * Fixed-window quotas per endpoint and client. Each (endpoint, client) pair gets its own counter that resets at the
+ * start of every window, so one noisy caller or endpoint cannot starve the others. Windows are aligned to the clock,
+ * which makes the behaviour fully deterministic for a given request sequence.
+ *
+ * Client ids come from a header anyone can set, so the number of tracked counters is capped: once the cap is reached
+ * within a window, clients without a counter share one overflow counter per endpoint until the next window.
+ */
+public class QuotaRequestLimiter implements RequestLimiter {
+
+    private static final int MAX_TRACKED_WINDOWS = 10_000;
+
+    private static final String OVERFLOW_CLIENT = "";
+
+    private final Map<EmployeeEndpoint, Integer> quotas;
+    private final long windowMillis;
+    private final Clock clock;
+
+    private final Map<Key, Window> windows = new ConcurrentHashMap<>();
+
+    public QuotaRequestLimiter(Map<EmployeeEndpoint, Integer> quotas, Duration window, Clock clock) {
+        this.quotas = new EnumMap<>(quotas);
+        this.windowMillis = window.toMillis();
+        this.clock = clock;
+    }
+
+    @Override
+    public RequestLimitDecision tryAcquire(String method, String path, String clientId) {
+        final var endpoint = EmployeeEndpoint.of(method, path);
+        final int limit = quotas.getOrDefault(endpoint, endpoint.getDefaultQuota());
+        if (limit <= 0) {
+            return RequestLimitDecision.unlimited();
+        }
+        final long now = clock.millis();
+        final long windowStart = now - now % windowMillis;
+        final long resetSeconds = (windowStart + windowMillis - now + 999) / 1000;
+        var key = new Key(endpoint, clientId);
+        if (windows.size() >= MAX_TRACKED_WINDOWS && !windows.containsKey(key)) {
+            windows.values().removeIf(window -> window.start() < windowStart);
+            if (windows.size() >= MAX_TRACKED_WINDOWS) {
+                key = new Key(endpoint, OVERFLOW_CLIENT);
+            }
+        }
+        final var window = windows.compute(
+                key,
+                (ignored, current) -> current == null || current.start() != windowStart
+                        ? new Window(windowStart, 1)
+                        : new Window(windowStart, current.used() + 1));
+        if (window.used() > limit) {
+            return RequestLimitDecision.rejected(limit, resetSeconds);
+        }
+        return RequestLimitDecision.allowed(limit, limit - window.used(), resetSeconds);
+    }
+
+    private record Key(EmployeeEndpoint endpoint, String clientId) {}
+
+    private record Window(long start, int used) {}
+}
@@ -0,0 +1,52 @@
+package com.reliaquest.server.web;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.random.RandomGenerator;
+
+/*
+ * The original limiter: after a random number of requests (5-9) every endpoint is blocked for a random backoff
+ * (30-89 seconds) counted from the last admitted request. One counter is shared by all endpoints and clients. With a
+ * seed the limit and backoff are reproducible between runs.
+ */
+public class RandomRequestLimiter implements RequestLimiter {
+
+    private final int requestLimit;
+    private final Duration backoff;
+    private final Clock clock;
+
+    private final AtomicReference<State> state;
+
+    public RandomRequestLimiter(RandomGenerator random, Clock clock) {
+        this.requestLimit = random.nextInt(5, 10);
+        this.backoff = Duration.ofSeconds(random.nextInt(30, 90));
+        this.clock = clock;
+        this.state = new AtomicReference<>(new State(0, clock.millis()));
+    }
+
+    @Override
+    public RequestLimitDecision tryAcquire(String method, String path, String clientId) {
+        while (true) {
+            final long now = clock.millis();
+            final var current = state.get();
+            final long blockedUntil = current.lastRequested() + backoff.toMillis();
+            if (current.count() >= requestLimit && now < blockedUntil) {
+                return RequestLimitDecision.rejected(requestLimit, seconds(blockedUntil - now));
+            }
+            final var next = current.count() >= requestLimit
+                    ? new State(1, now)
+                    : new State(current.count() + 1, now);
+            if (state.compareAndSet(current, next)) {
+                // the backoff only starts once the limit is hit, so there is no reset time to report yet
+                return RequestLimitDecision.allowed(requestLimit, requestLimit - next.count(), -1);
+            }
+        }
+    }
+
+    private static long seconds(long millis) {
+        return (millis + 999) / 1000;
+    }
+
+    private record State(int count, long lastRequested) {}
+}
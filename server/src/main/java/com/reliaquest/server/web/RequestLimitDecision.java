@@ -0,0 +1,37 @@
+package com.reliaquest.server.web;
+
+import java.util.function.BiConsumer;
+
+/*
+ * Outcome of a limiter check. limit and remaining are reported in RateLimit-* headers when the limiter knows them,
+ * resetSeconds is the time until the current window or backoff ends, or -1 when nothing resets at a known time.
+ */
+public record RequestLimitDecision(boolean allowed, int limit, int remaining, long resetSeconds) {
+
+    private static final RequestLimitDecision UNLIMITED = new RequestLimitDecision(true, -1, -1, 0);
+
+    public static RequestLimitDecision unlimited() {
+        return UNLIMITED;
+    }
+
+    public static RequestLimitDecision allowed(int limit, int remaining, long resetSeconds) {
+        return new RequestLimitDecision(true, limit, Math.max(0, remaining), resetSeconds);
+    }
+
+    public static RequestLimitDecision rejected(int limit, long resetSeconds) {
+        return new RequestLimitDecision(false, limit, 0, Math.max(1, resetSeconds));
+    }
+
+    public void writeHeaders(BiConsumer<String, String> header) {
+        if (limit >= 0) {
+            header.accept("RateLimit-Limit", Integer.toString(limit));
+            header.accept("RateLimit-Remaining", Integer.toString(remaining));
+            if (resetSeconds >= 0) {
+                header.accept("RateLimit-Reset", Long.toString(resetSeconds));
+            }
+        }
+        if (!allowed) {
+            header.accept("Retry-After", Long.toString(resetSeconds));
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.reliaquest.server.web;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/*
+ * Servlet adapter for a RequestLimiter. Callers identify themselves with X-Client-Id, otherwise the remote address
+ * is used.
+ */
+@RequiredArgsConstructor
+public class RequestLimitInterceptor implements HandlerInterceptor {
+
+    public static final String CLIENT_ID_HEADER = "X-Client-Id";
+
+    private final RequestLimiter requestLimiter;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        final var clientId = request.getHeader(CLIENT_ID_HEADER);
+        final var decision = requestLimiter.tryAcquire(
+                request.getMethod(),
+                request.getRequestURI(),
+                clientId != null ? clientId : request.getRemoteAddr());
+        decision.writeHeaders(response::setHeader);
+        if (!decision.allowed()) {
+            response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+            return false;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,14 @@
+package com.reliaquest.server.web;
+
+/*
+ * Decides whether a request may proceed. Implementations are shared by every request thread and must be safe for
+ * concurrent use; they know nothing about the web stack so the servlet and reactive adapters can share them.
+ */
+public interface RequestLimiter {
+
+    RequestLimitDecision tryAcquire(String method, String path, String clientId);
+
+    static RequestLimiter unlimited() {
+        return (method, path, clientId) -> RequestLimitDecision.unlimited();
+    }
+}
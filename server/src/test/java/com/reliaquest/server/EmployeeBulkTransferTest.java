@@ -0,0 +1,181 @@
+package com.reliaquest.server;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.server.model.BulkImportResult;
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.service.EmployeeBulkTransfer;
+import com.reliaquest.server.service.EmployeeStatistics;
+import com.reliaquest.server.service.InvalidImportException;
+import com.reliaquest.server.service.MockEmployeeService;
+import com.reliaquest.server.service.ReplicationLog;
+import jakarta.validation.Validation;
+import jakarta.validation.ValidatorFactory;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import net.datafaker.Faker;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class EmployeeBulkTransferTest {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private ValidatorFactory validatorFactory;
+
+    private final List<EmployeeBulkTransfer> transfers = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+    }
+
+    @AfterEach
+    void tearDown() {
+        transfers.forEach(EmployeeBulkTransfer::shutdown);
+        validatorFactory.close();
+    }
+
+    private static MockEmployeeService service(ReplicationLog replicationLog) {
+        return new MockEmployeeService(new Faker(), new ArrayList<>(), new EmployeeStatistics(5000), replicationLog);
+    }
+
+    private EmployeeBulkTransfer transfer(MockEmployeeService service, ReplicationLog replicationLog, int batchSize) {
+        EmployeeBulkTransfer transfer = new EmployeeBulkTransfer(
+                service, replicationLog, validatorFactory.getValidator(), OBJECT_MAPPER, batchSize, 2);
+        transfers.add(transfer);
+        return transfer;
+    }
+
+    private static MockEmployee employee(String name, int salary) {
+        return MockEmployee.builder()
+                .id(UUID.randomUUID())
+                .name(name)
+                .salary(salary)
+                .age(30)
+                .title("Engineer")
+                .email(name.toLowerCase().replace(' ', '.') + "@company.com")
+                .build();
+    }
+
+    private static String line(MockEmployee employee) throws IOException {
+        return OBJECT_MAPPER.writeValueAsString(employee) + "\n";
+    }
+
+    private static ByteArrayInputStream plain(String ndjson) {
+        return new ByteArrayInputStream(ndjson.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void testExportThenImport_roundTripsEveryEmployeeInOrder() throws IOException {
+
+        ReplicationLog sourceLog = new ReplicationLog(ReplicationLog.PRIMARY, 100);
+        MockEmployeeService source = service(sourceLog);
+        List<MockEmployee> employees = new ArrayList<>();
+        for (int i = 0; i < 25; i++) {
+            employees.add(employee("Employee " + i, 40000 + i));
+        }
+        source.addAll(employees);
+        ByteArrayOutputStream exported = new ByteArrayOutputStream();
+
+        long count = transfer(source, sourceLog, 4).export(exported);
+
+        ReplicationLog targetLog = new ReplicationLog(ReplicationLog.PRIMARY, 100);
+        MockEmployeeService target = service(targetLog);
+        BulkImportResult result =
+                transfer(target, targetLog, 4).importFrom(new ByteArrayInputStream(exported.toByteArray()), false);
+
+        assertEquals(25, count);
+        assertEquals(new BulkImportResult(25, 25, 0, result.durationMillis()), result);
+        assertEquals(source.getMockEmployees(), target.getMockEmployees());
+    }
+
+    @Test
+    void testImport_acceptsPlainNdjsonAndSkipsExistingIds() throws IOException {
+
+        ReplicationLog replicationLog = new ReplicationLog(ReplicationLog.PRIMARY, 100);
+        MockEmployeeService service = service(replicationLog);
+        MockEmployee tiger = employee("Tiger Nixon", 320800);
+        service.addAll(List.of(tiger));
+
+        BulkImportResult result = transfer(service, replicationLog, 10)
+                .importFrom(plain(line(tiger) + "\n" + line(employee("Bill Bob", 89750))), false);
+
+        assertEquals(2, result.read());
+        assertEquals(1, result.imported());
+        assertEquals(1, result.skipped());
+        assertEquals(2, service.getMockEmployees().size());
+    }
+
+    @Test
+    void testImport_fillsMissingIdAndEmail() throws IOException {
+
+        ReplicationLog replicationLog = new ReplicationLog(ReplicationLog.PRIMARY, 100);
+        MockEmployeeService service = service(replicationLog);
+
+        transfer(service, replicationLog, 10)
+                .importFrom(
+                        plain("{\"employee_name\":\"Bill Bob\",\"employee_salary\":89750,\"employee_age\":24,"
+                                + "\"employee_title\":\"Engineer\"}\n"),
+                        false);
+
+        MockEmployee imported = service.getMockEmployees().get(0);
+        assertNotNull(imported.getId());
+        assertTrue(imported.getEmail().endsWith("@company.com"));
+    }
+
+    @Test
+    void testImport_malformedLineFailsAfterEarlierBatches() throws IOException {
+
+        ReplicationLog replicationLog = new ReplicationLog(ReplicationLog.PRIMARY, 100);
+        MockEmployeeService service = service(replicationLog);
+        String body = line(employee("Tiger Nixon", 320800)) + line(employee("Bill Bob", 89750)) + "{\"id\":\n";
+
+        InvalidImportException ex = assertThrows(
+                InvalidImportException.class, () -> transfer(service, replicationLog, 2)
+                        .importFrom(plain(body), false));
+
+        assertTrue(ex.getMessage().startsWith("Line 3 "));
+        assertEquals(2, service.getMockEmployees().size());
+    }
+
+    @Test
+    void testImport_rejectsRowFailingCreateChecks() throws IOException {
+
+        ReplicationLog replicationLog = new ReplicationLog(ReplicationLog.PRIMARY, 100);
+        MockEmployeeService service = service(replicationLog);
+        MockEmployee underage = employee("Bill Bob", 89750);
+        underage.setAge(12);
+
+        InvalidImportException ex = assertThrows(
+                InvalidImportException.class, () -> transfer(service, replicationLog, 10)
+                        .importFrom(plain(line(employee("Tiger Nixon", 320800)) + line(underage)), false));
+
+        assertTrue(ex.getMessage().startsWith("Line 2 "));
+        assertTrue(ex.getMessage().contains("age"));
+        assertTrue(service.getMockEmployees().isEmpty());
+    }
+
+    @Test
+    void testImport_replaceRemovesExistingEmployeesAndRestartsLog() throws IOException {
+
+        ReplicationLog replicationLog = new ReplicationLog(ReplicationLog.PRIMARY, 100);
+        MockEmployeeService service = service(replicationLog);
+        service.addAll(List.of(employee("Tiger Nixon", 320800)));
+        String epoch = replicationLog.getEpoch();
+        MockEmployee bill = employee("Bill Bob", 89750);
+
+        transfer(service, replicationLog, 10).importFrom(plain(line(bill)), true);
+
+        assertEquals(List.of(bill), service.getMockEmployees());
+        assertNotEquals(epoch, replicationLog.getEpoch());
+        assertEquals(0, replicationLog.getLastSequence());
+    }
+}
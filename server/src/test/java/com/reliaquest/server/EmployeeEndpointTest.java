@@ -0,0 +1,45 @@
+package com.reliaquest.server;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.server.web.EmployeeEndpoint;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class EmployeeEndpointTest {
+
+    @Test
+    void testOf_mapsEmployeeRoutes() {
+
+        assertEquals(EmployeeEndpoint.LIST, EmployeeEndpoint.of("GET", "/api/v1/employee"));
+        assertEquals(EmployeeEndpoint.LIST, EmployeeEndpoint.of("HEAD", "/api/v1/employee/"));
+        assertEquals(EmployeeEndpoint.CREATE, EmployeeEndpoint.of("POST", "/api/v1/employee"));
+        assertEquals(EmployeeEndpoint.DELETE, EmployeeEndpoint.of("delete", "/api/v1/employee"));
+        assertEquals(EmployeeEndpoint.BATCH, EmployeeEndpoint.of("POST", "/api/v1/employee/batch"));
+        assertEquals(EmployeeEndpoint.EXPORT, EmployeeEndpoint.of("GET", "/api/v1/employee/bulk"));
+        assertEquals(EmployeeEndpoint.IMPORT, EmployeeEndpoint.of("POST", "/api/v1/employee/bulk"));
+        assertEquals(EmployeeEndpoint.STATS, EmployeeEndpoint.of("GET", "/api/v1/employee/stats"));
+        assertEquals(EmployeeEndpoint.GET, EmployeeEndpoint.of("GET", "/api/v1/employee/" + UUID.randomUUID()));
+    }
+
+    @Test
+    void testOf_mapsEverythingElseToOtherReadOrWrite() {
+
+        assertEquals(EmployeeEndpoint.OTHER_READ, EmployeeEndpoint.of("GET", "/api/v1/employee/stats/extra"));
+        assertEquals(EmployeeEndpoint.OTHER_READ, EmployeeEndpoint.of("GET", "/actuator/health"));
+        assertEquals(EmployeeEndpoint.OTHER_WRITE, EmployeeEndpoint.of("PUT", "/api/v1/employee"));
+        assertEquals(EmployeeEndpoint.OTHER_WRITE, EmployeeEndpoint.of("DELETE", "/api/v1/employee/bulk"));
+        assertEquals(EmployeeEndpoint.OTHER_WRITE, EmployeeEndpoint.of("POST", "/api/v1/employee/stats"));
+        assertEquals(EmployeeEndpoint.OTHER_WRITE, EmployeeEndpoint.of("POST", "/faults"));
+    }
+
+    @Test
+    void testFromKey_matchesPropertySuffix() {
+
+        assertEquals("other-read", EmployeeEndpoint.OTHER_READ.key());
+        assertEquals(Optional.of(EmployeeEndpoint.OTHER_WRITE), EmployeeEndpoint.fromKey("other-write"));
+        assertEquals(Optional.of(EmployeeEndpoint.LIST), EmployeeEndpoint.fromKey("LIST"));
+        assertEquals(Optional.empty(), EmployeeEndpoint.fromKey("other_read"));
+    }
+}
@@ -0,0 +1,73 @@
+package com.reliaquest.server;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.server.model.EmployeeQuery;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class EmployeeQueryTest {
+
+    private ValidatorFactory validatorFactory;
+
+    private Validator validator;
+
+    @BeforeEach
+    void setUp() {
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        validator = validatorFactory.getValidator();
+    }
+
+    @AfterEach
+    void tearDown() {
+        validatorFactory.close();
+    }
+
+    @Test
+    void testDerivedBounds_parseAgeRangeAndSort() {
+
+        EmployeeQuery query = new EmployeeQuery();
+        query.setAgeRange("20-40");
+        query.setSort("Salary,DESC");
+
+        assertEquals(20, query.minAge());
+        assertEquals(40, query.maxAge());
+        assertEquals("salary", query.sortField());
+        assertTrue(query.isDescending());
+        assertFalse(query.isEmpty());
+    }
+
+    @Test
+    void testDerivedBounds_defaultToUnbounded() {
+
+        EmployeeQuery query = new EmployeeQuery();
+
+        assertTrue(query.isEmpty());
+        assertEquals(Integer.MIN_VALUE, query.minAge());
+        assertEquals(Integer.MAX_VALUE, query.maxAge());
+        assertEquals(Integer.MIN_VALUE, query.minSalaryOrDefault());
+        assertEquals(Integer.MAX_VALUE, query.maxSalaryOrDefault());
+        assertNull(query.sortField());
+        assertFalse(query.isDescending());
+    }
+
+    @Test
+    void testValidation_rejectsRangesThatWouldNotParse() {
+
+        EmployeeQuery tooLong = new EmployeeQuery();
+        tooLong.setAgeRange("1234-5");
+        EmployeeQuery unknownSort = new EmployeeQuery();
+        unknownSort.setSort("email,desc");
+        EmployeeQuery valid = new EmployeeQuery();
+        valid.setAgeRange("0-999");
+        valid.setSort("age");
+
+        assertEquals(1, validator.validate(tooLong).size());
+        assertEquals(1, validator.validate(unknownSort).size());
+        assertTrue(validator.validate(valid).isEmpty());
+    }
+}
@@ -0,0 +1,143 @@
+package com.reliaquest.server;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.server.model.FaultProfile;
+import com.reliaquest.server.web.EmployeeEndpoint;
+import com.reliaquest.server.web.FaultInjector;
+import com.reliaquest.server.web.FaultPlan;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class FaultInjectorTest {
+
+    private static final String LIST_PATH = "/api/v1/employee";
+
+    private static final String GET_PATH = "/api/v1/employee/4a3a170b-22cd-4ac2-aad1-9bb5b34a1507";
+
+    private static FaultProfile noisy() {
+        FaultProfile profile = new FaultProfile();
+        profile.setLatencyP50Ms(100);
+        profile.setLatencyP99Ms(1000);
+        profile.setJitterMs(10);
+        profile.setErrorRate(0.3);
+        profile.setResetRate(0.1);
+        return profile;
+    }
+
+    private static List<FaultPlan> plans(FaultInjector injector, String path, int count) {
+        List<FaultPlan> plans = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            plans.add(injector.plan("GET", path));
+        }
+        return plans;
+    }
+
+    @Test
+    void testPlan_sameSeedGivesSameSequencePerEndpointWhateverOtherTraffic() {
+
+        Map<EmployeeEndpoint, FaultProfile> profiles =
+                Map.of(EmployeeEndpoint.GET, noisy(), EmployeeEndpoint.LIST, noisy());
+        FaultInjector alone = new FaultInjector(profiles, 42);
+        FaultInjector interleaved = new FaultInjector(profiles, 42);
+
+        List<FaultPlan> expected = plans(alone, GET_PATH, 50);
+        List<FaultPlan> actual = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            plans(interleaved, LIST_PATH, i % 3);
+            actual.add(interleaved.plan("GET", GET_PATH));
+        }
+
+        assertEquals(expected, actual);
+        assertTrue(expected.stream().anyMatch(FaultPlan::isError));
+        assertTrue(expected.stream().anyMatch(plan -> !plan.isError() && !plan.reset()));
+    }
+
+    @Test
+    void testReseed_restartsTheSequence() {
+
+        FaultInjector injector = new FaultInjector(Map.of(EmployeeEndpoint.GET, noisy()), 7);
+        List<FaultPlan> first = plans(injector, GET_PATH, 20);
+
+        injector.reseed(7);
+
+        assertEquals(first, plans(injector, GET_PATH, 20));
+        assertEquals(7, injector.getSeed());
+        injector.reseed(8);
+        assertNotEquals(first, plans(injector, GET_PATH, 20));
+    }
+
+    @Test
+    void testReseed_endsRunningBurst() {
+
+        FaultProfile profile = noisy();
+        profile.setErrorBurstLength(3);
+        FaultInjector injector = new FaultInjector(Map.of(EmployeeEndpoint.GET, profile), 7);
+        List<FaultPlan> first = plans(injector, GET_PATH, 20);
+
+        // the first error after a success starts a burst, which is still running after that request
+        while (injector.plan("GET", GET_PATH).isError()) {}
+        while (!injector.plan("GET", GET_PATH).isError()) {}
+        injector.reseed(7);
+
+        assertEquals(first, plans(injector, GET_PATH, 20));
+    }
+
+    @Test
+    void testPlan_errorStartsBurstOfConsecutiveErrors() {
+
+        FaultProfile profile = new FaultProfile();
+        profile.setErrorRate(1);
+        profile.setErrorBurstLength(3);
+        profile.setErrorStatus(500);
+        FaultInjector injector = new FaultInjector(Map.of(EmployeeEndpoint.GET, profile), 1);
+
+        assertEquals(500, injector.plan("GET", GET_PATH).errorStatus());
+        // the injector holds the same profile, so later requests can no longer start a burst of their own
+        profile.setErrorRate(0);
+
+        assertEquals(List.of(500, 500, 0), plans(injector, GET_PATH, 3).stream()
+                .map(FaultPlan::errorStatus)
+                .toList());
+    }
+
+    @Test
+    void testPlan_resetTakesPrecedenceOverError() {
+
+        FaultProfile profile = new FaultProfile();
+        profile.setErrorRate(1);
+        profile.setResetRate(1);
+        FaultInjector injector = new FaultInjector(Map.of(EmployeeEndpoint.LIST, profile), 1);
+
+        FaultPlan plan = injector.plan("GET", LIST_PATH);
+
+        assertTrue(plan.reset());
+        assertFalse(plan.isError());
+    }
+
+    @Test
+    void testPlan_latencyStaysBetweenHalfMedianAndMaximum() {
+
+        FaultProfile profile = new FaultProfile();
+        profile.setLatencyP50Ms(100);
+        FaultInjector injector = new FaultInjector(Map.of(EmployeeEndpoint.GET, profile), 3);
+
+        for (FaultPlan plan : plans(injector, GET_PATH, 200)) {
+            assertTrue(plan.delayMillis() >= 50 && plan.delayMillis() <= 100, "delay " + plan.delayMillis());
+        }
+    }
+
+    @Test
+    void testPlan_noneWithoutProfile() {
+
+        FaultInjector injector = new FaultInjector(Map.of(EmployeeEndpoint.GET, noisy()), 1);
+
+        assertEquals(FaultPlan.none(), injector.plan("GET", LIST_PATH));
+        injector.setProfile(EmployeeEndpoint.LIST, noisy());
+        injector.clear();
+        assertEquals(FaultPlan.none(), injector.plan("GET", GET_PATH));
+        assertTrue(injector.getProfiles().isEmpty());
+    }
+}
@@ -0,0 +1,216 @@
+package com.reliaquest.server;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.server.model.CreateMockEmployeeInput;
+import com.reliaquest.server.model.DeleteMockEmployeeInput;
+import com.reliaquest.server.model.EmployeeQuery;
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.model.ReplicationEvent;
+import com.reliaquest.server.model.ReplicationSnapshot;
+import com.reliaquest.server.service.EmployeeStatistics;
+import com.reliaquest.server.service.MockEmployeeService;
+import com.reliaquest.server.service.ReadOnlyReplicaException;
+import com.reliaquest.server.service.ReplicationLog;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import net.datafaker.Faker;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class MockEmployeeServiceTest {
+
+    private ReplicationLog replicationLog;
+
+    private MockEmployeeService service;
+
+    @BeforeEach
+    void setUp() {
+        replicationLog = new ReplicationLog(ReplicationLog.PRIMARY, 100);
+        service = new MockEmployeeService(new Faker(), new ArrayList<>(), new EmployeeStatistics(5000), replicationLog);
+    }
+
+    private static MockEmployee employee(String name, Integer salary, Integer age, String title) {
+        return MockEmployee.builder()
+                .id(UUID.randomUUID())
+                .name(name)
+                .salary(salary)
+                .age(age)
+                .title(title)
+                .email(name.toLowerCase().replace(' ', '.') + "@company.com")
+                .build();
+    }
+
+    private static CreateMockEmployeeInput input(String name, int salary, int age, String title) {
+        CreateMockEmployeeInput input = new CreateMockEmployeeInput();
+        input.setName(name);
+        input.setSalary(salary);
+        input.setAge(age);
+        input.setTitle(title);
+        return input;
+    }
+
+    private static EmployeeQuery query(Consumer<EmployeeQuery> filters) {
+        EmployeeQuery query = new EmployeeQuery();
+        filters.accept(query);
+        return query;
+    }
+
+    private static Set<UUID> ids(List<MockEmployee> employees) {
+        return employees.stream().map(MockEmployee::getId).collect(Collectors.toSet());
+    }
+
+    private Set<UUID> idsWhere(Predicate<MockEmployee> filter) {
+        return ids(service.getMockEmployees().stream().filter(filter).toList());
+    }
+
+    // Every index-backed query must return what a scan of the list returns
+    private void assertIndexesMatchList() {
+        List<MockEmployee> all = service.getMockEmployees();
+        for (MockEmployee employee : all) {
+            assertEquals(employee, service.findById(employee.getId()).orElseThrow());
+        }
+        assertEquals(ids(all), ids(service.query(query(q -> q.setSort("salary,desc")))));
+        assertEquals(ids(all), ids(service.query(query(q -> q.setSort("age")))));
+        assertEquals(
+                idsWhere(e -> e.getSalary() != null && e.getSalary() >= 100000),
+                ids(service.query(query(q -> q.setMinSalary(100000)))));
+        assertEquals(
+                idsWhere(e -> e.getAge() != null && e.getAge() >= 30 && e.getAge() <= 40),
+                ids(service.query(query(q -> q.setAgeRange("30-40")))));
+        assertEquals(
+                idsWhere(e -> "engineer".equalsIgnoreCase(e.getTitle())),
+                ids(service.query(query(q -> q.setTitle("ENGINEER")))));
+        assertEquals(all.size(), service.getStats().count());
+    }
+
+    @Test
+    void testIndexes_stayConsistentWithListAfterCreateDeleteAndClear() {
+
+        service.create(input("Tiger Nixon", 320800, 61, "Engineer"));
+        service.create(input("Bill Bob", 89750, 24, "Documentation Engineer"));
+        service.create(input("Jill Jenkins", 139082, 35, "engineer"));
+        service.addAll(List.of(employee("Ann Lee", null, 38, "Engineer")));
+        assertIndexesMatchList();
+
+        assertTrue(service.delete(deleteInput("tiger nixon")));
+        assertFalse(service.delete(deleteInput("Nobody")));
+        assertIndexesMatchList();
+        assertEquals(3, service.getMockEmployees().size());
+
+        service.clear();
+        assertIndexesMatchList();
+        assertTrue(service.getMockEmployees().isEmpty());
+        assertTrue(service.query(query(q -> q.setSort("salary"))).isEmpty());
+    }
+
+    @Test
+    void testQuery_sortedScanKeepsEmployeesWithoutSalaryLast() {
+
+        MockEmployee unpaid = employee("Ann Lee", null, 38, "Intern");
+        service.addAll(List.of(
+                unpaid, employee("Bill Bob", 89750, 24, "Engineer"), employee("Tiger Nixon", 320800, 61, "Chair")));
+
+        List<MockEmployee> descending = service.query(query(q -> q.setSort("salary,desc")));
+        List<MockEmployee> ascending = service.query(query(q -> q.setSort("salary,asc")));
+
+        assertEquals(List.of("Tiger Nixon", "Bill Bob", "Ann Lee"), names(descending));
+        assertEquals(List.of("Bill Bob", "Tiger Nixon", "Ann Lee"), names(ascending));
+        assertEquals(List.of("Tiger Nixon"), names(service.query(query(q -> {
+            q.setSort("salary,desc");
+            q.setLimit(1);
+        }))));
+        assertFalse(ids(service.query(query(q -> q.setMinSalary(0)))).contains(unpaid.getId()));
+    }
+
+    @Test
+    void testFindAllById_followsRequestOrderAndSkipsUnknownIds() {
+
+        MockEmployee tiger = employee("Tiger Nixon", 320800, 61, "Chair");
+        MockEmployee bill = employee("Bill Bob", 89750, 24, "Engineer");
+        service.addAll(List.of(tiger, bill));
+
+        List<MockEmployee> found = service.findAllById(List.of(
+                bill.getId().toString(),
+                "not-a-uuid",
+                UUID.randomUUID().toString(),
+                tiger.getId().toString(),
+                bill.getId().toString()));
+
+        assertEquals(List.of(bill, tiger), found);
+    }
+
+    @Test
+    void testAddAll_skipsExistingIdsAndFillsMissingEmail() {
+
+        MockEmployee tiger = employee("Tiger Nixon", 320800, 61, "Chair");
+        tiger.setEmail(null);
+
+        assertEquals(1, service.addAll(List.of(tiger)));
+        assertEquals(0, service.addAll(List.of(tiger.toBuilder().build())));
+
+        assertNotNull(service.findById(tiger.getId()).orElseThrow().getEmail());
+        assertEquals(0, replicationLog.getLastSequence());
+    }
+
+    @Test
+    void testApplySnapshot_replacesEmployeesAndMovesLog() {
+
+        service.create(input("Tiger Nixon", 320800, 61, "Chair"));
+        MockEmployee bill = employee("Bill Bob", 89750, 24, "Engineer");
+
+        service.applySnapshot(new ReplicationSnapshot("epoch-2", 7, List.of(bill)));
+
+        assertEquals(List.of(bill), service.getMockEmployees());
+        assertEquals("epoch-2", replicationLog.getEpoch());
+        assertEquals(7, replicationLog.getLastSequence());
+        assertIndexesMatchList();
+    }
+
+    @Test
+    void testApplyEvents_appliesInOrderAndStopsAtGap() {
+
+        MockEmployee tiger = employee("Tiger Nixon", 320800, 61, "Chair");
+        MockEmployee bill = employee("Bill Bob", 89750, 24, "Engineer");
+        service.applySnapshot(new ReplicationSnapshot("epoch", 0, List.of()));
+
+        assertTrue(service.applyEvents(List.of(
+                new ReplicationEvent(1, ReplicationEvent.Operation.CREATE, tiger, 0),
+                new ReplicationEvent(2, ReplicationEvent.Operation.CREATE, bill, 0),
+                new ReplicationEvent(3, ReplicationEvent.Operation.DELETE, tiger, 0))));
+        assertEquals(List.of(bill), service.getMockEmployees());
+        assertEquals(3, replicationLog.getLastSequence());
+
+        assertFalse(service.applyEvents(
+                List.of(new ReplicationEvent(5, ReplicationEvent.Operation.DELETE, bill, 0))));
+        assertEquals(List.of(bill), service.getMockEmployees());
+        assertIndexesMatchList();
+    }
+
+    @Test
+    void testCreate_rejectedOnReplica() {
+
+        MockEmployeeService replica = new MockEmployeeService(
+                new Faker(),
+                new ArrayList<>(),
+                new EmployeeStatistics(5000),
+                new ReplicationLog(ReplicationLog.REPLICA, 100));
+
+        assertThrows(ReadOnlyReplicaException.class, () -> replica.create(input("Tiger Nixon", 320800, 61, "Chair")));
+    }
+
+    private static DeleteMockEmployeeInput deleteInput(String name) {
+        DeleteMockEmployeeInput input = new DeleteMockEmployeeInput();
+        input.setName(name);
+        return input;
+    }
+
+    private static List<String> names(List<MockEmployee> employees) {
+        return employees.stream().map(MockEmployee::getName).toList();
+    }
+}
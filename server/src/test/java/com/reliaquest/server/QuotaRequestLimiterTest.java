@@ -0,0 +1,143 @@
+package com.reliaquest.server;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.server.web.EmployeeEndpoint;
+import com.reliaquest.server.web.QuotaRequestLimiter;
+import com.reliaquest.server.web.RequestLimitDecision;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class QuotaRequestLimiterTest {
+
+    private static final String LIST_PATH = "/api/v1/employee";
+
+    private MutableClock clock;
+
+    private QuotaRequestLimiter limiter;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(60_000);
+        limiter = new QuotaRequestLimiter(
+                Map.of(EmployeeEndpoint.LIST, 2, EmployeeEndpoint.STATS, 0), Duration.ofSeconds(10), clock);
+    }
+
+    private RequestLimitDecision list(String clientId) {
+        return limiter.tryAcquire("GET", LIST_PATH, clientId);
+    }
+
+    @Test
+    void testTryAcquire_countsEachClientInItsOwnWindow() {
+
+        RequestLimitDecision first = list("a");
+        clock.advance(4_000);
+        RequestLimitDecision second = list("a");
+        RequestLimitDecision third = list("a");
+        RequestLimitDecision other = list("b");
+
+        assertEquals(new RequestLimitDecision(true, 2, 1, 10), first);
+        assertEquals(new RequestLimitDecision(true, 2, 0, 6), second);
+        assertEquals(new RequestLimitDecision(false, 2, 0, 6), third);
+        assertTrue(other.allowed());
+    }
+
+    @Test
+    void testTryAcquire_resetsAtNextWindow() {
+
+        list("a");
+        list("a");
+        assertFalse(list("a").allowed());
+
+        clock.advance(10_000);
+
+        assertEquals(new RequestLimitDecision(true, 2, 1, 10), list("a"));
+    }
+
+    @Test
+    void testTryAcquire_quotasArePerEndpoint() {
+
+        list("a");
+        list("a");
+
+        assertFalse(list("a").allowed());
+        assertTrue(limiter.tryAcquire("POST", LIST_PATH, "a").allowed());
+        assertEquals(RequestLimitDecision.unlimited(), limiter.tryAcquire("GET", LIST_PATH + "/stats", "a"));
+    }
+
+    @Test
+    void testWriteHeaders_reportsRetryAfterOnlyWhenRejected() {
+
+        Map<String, String> allowed = new LinkedHashMap<>();
+        Map<String, String> rejected = new LinkedHashMap<>();
+
+        list("a").writeHeaders(allowed::put);
+        list("a");
+        list("a").writeHeaders(rejected::put);
+
+        assertEquals(Map.of("RateLimit-Limit", "2", "RateLimit-Remaining", "1", "RateLimit-Reset", "10"), allowed);
+        assertEquals("0", rejected.get("RateLimit-Remaining"));
+        assertEquals("10", rejected.get("Retry-After"));
+    }
+
+    @Test
+    void testTryAcquire_untrackedClientsShareOverflowCounterUntilNextWindow() {
+
+        for (int i = 0; i < 10_000; i++) {
+            assertTrue(list("client-" + i).allowed());
+        }
+
+        // the cap is reached, so new ids within this window all draw from one counter
+        assertTrue(list("new-1").allowed());
+        assertTrue(list("new-2").allowed());
+        assertFalse(list("new-3").allowed());
+        assertTrue(list("client-0").allowed());
+
+        clock.advance(10_000);
+
+        assertTrue(list("new-4").allowed());
+        assertTrue(list("new-5").allowed());
+        assertTrue(list("new-5").allowed());
+        assertFalse(list("new-5").allowed());
+    }
+
+    private static class MutableClock extends Clock {
+
+        private long millis;
+
+        MutableClock(long millis) {
+            this.millis = millis;
+        }
+
+        void advance(long delta) {
+            millis += delta;
+        }
+
+        @Override
+        public long millis() {
+            return millis;
+        }
+
+        @Override
+        public Instant instant() {
+            return Instant.ofEpochMilli(millis);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+    }
+}
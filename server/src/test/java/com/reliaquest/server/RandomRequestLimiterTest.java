@@ -0,0 +1,43 @@
+package com.reliaquest.server;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.server.web.RandomRequestLimiter;
+import com.reliaquest.server.web.RequestLimitDecision;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class RandomRequestLimiterTest {
+
+    private static Map<String, String> headers(RequestLimitDecision decision) {
+        Map<String, String> headers = new LinkedHashMap<>();
+        decision.writeHeaders(headers::put);
+        return headers;
+    }
+
+    @Test
+    void testTryAcquire_reportsResetOnlyOnRejection() {
+
+        RandomRequestLimiter limiter =
+                new RandomRequestLimiter(new Random(1), Clock.fixed(Instant.ofEpochSecond(60), ZoneOffset.UTC));
+
+        RequestLimitDecision decision = limiter.tryAcquire("GET", "/api/v1/employee", "a");
+        int limit = decision.limit();
+        while (decision.allowed()) {
+            Map<String, String> allowed = headers(decision);
+            assertFalse(allowed.containsKey("RateLimit-Reset"));
+            assertEquals(Integer.toString(limit), allowed.get("RateLimit-Limit"));
+            decision = limiter.tryAcquire("GET", "/api/v1/employee", "a");
+        }
+
+        Map<String, String> rejected = headers(decision);
+        assertEquals(rejected.get("Retry-After"), rejected.get("RateLimit-Reset"));
+        assertTrue(Long.parseLong(rejected.get("Retry-After")) >= 30);
+        assertEquals("0", rejected.get("RateLimit-Remaining"));
+    }
+}
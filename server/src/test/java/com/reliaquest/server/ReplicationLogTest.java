@@ -0,0 +1,96 @@
+package com.reliaquest.server;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.model.ReplicationBatch;
+import com.reliaquest.server.model.ReplicationEvent;
+import com.reliaquest.server.service.ReplicationLog;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ReplicationLogTest {
+
+    private ReplicationLog log;
+
+    @BeforeEach
+    void setUp() {
+        log = new ReplicationLog(ReplicationLog.PRIMARY, 3);
+    }
+
+    private void appendCreates(int count) {
+        for (int i = 0; i < count; i++) {
+            log.append(
+                    ReplicationEvent.Operation.CREATE,
+                    MockEmployee.builder().id(UUID.randomUUID()).build());
+        }
+    }
+
+    private static List<Long> sequences(ReplicationBatch batch) {
+        return batch.events().stream().map(ReplicationEvent::sequence).toList();
+    }
+
+    @Test
+    void testSince_returnsNewerEntriesOldestFirstUpToLimit() {
+
+        appendCreates(3);
+
+        ReplicationBatch all = log.since(log.getEpoch(), 0, 10);
+        ReplicationBatch limited = log.since(log.getEpoch(), 1, 1);
+        ReplicationBatch current = log.since(log.getEpoch(), 3, 10);
+
+        assertFalse(all.snapshotRequired());
+        assertEquals(List.of(1L, 2L, 3L), sequences(all));
+        assertEquals(List.of(2L), sequences(limited));
+        assertEquals(3, limited.lastSequence());
+        assertTrue(current.events().isEmpty());
+        assertFalse(current.snapshotRequired());
+    }
+
+    @Test
+    void testSince_requiresSnapshotWhenPositionIsGone() {
+
+        appendCreates(5);
+
+        assertTrue(log.since(log.getEpoch(), 1, 10).snapshotRequired());
+        assertEquals(List.of(3L, 4L, 5L), sequences(log.since(log.getEpoch(), 2, 10)));
+        assertTrue(log.since("other-epoch", 4, 10).snapshotRequired());
+        assertTrue(log.since(log.getEpoch(), 6, 10).snapshotRequired());
+    }
+
+    @Test
+    void testRestart_startsNewEpochAndForcesSnapshot() {
+
+        appendCreates(2);
+        String epoch = log.getEpoch();
+
+        log.restart();
+
+        assertNotEquals(epoch, log.getEpoch());
+        assertEquals(0, log.getLastSequence());
+        assertTrue(log.since(epoch, 2, 10).snapshotRequired());
+        assertTrue(log.since(log.getEpoch(), 0, 10).events().isEmpty());
+    }
+
+    @Test
+    void testAppendReplicated_keepsPrimarySequences() {
+
+        ReplicationLog replica = new ReplicationLog(ReplicationLog.REPLICA, 3);
+        replica.reset("epoch", 10);
+
+        replica.appendReplicated(new ReplicationEvent(
+                11, ReplicationEvent.Operation.DELETE, MockEmployee.builder().build(), 0));
+
+        assertTrue(replica.isReplica());
+        assertEquals(11, replica.getLastSequence());
+        assertEquals(List.of(11L), sequences(replica.since("epoch", 10, 10)));
+    }
+
+    @Test
+    void testConstructor_rejectsUnknownRole() {
+
+        assertThrows(IllegalArgumentException.class, () -> new ReplicationLog("leader", 10));
+    }
+}